@@ -0,0 +1,88 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Defines the logic to validate a given constraint {@code A} for a given object type
+ * {@code T} asynchronously, typically because it involves I/O such as looking up
+ * reference data.
+ * <p>
+ * When validating with {@link Validator#validateAsync(Object, Class[])}, the provider may
+ * start the evaluation of all the asynchronous constraints of a bean which do not depend
+ * on each other, and then join them, so that their latencies overlap. When validating with
+ * the other methods of {@link Validator}, the provider invokes
+ * {@link #isValid(Object, ConstraintValidatorContext)}, which waits for the result.
+ * <p>
+ * The {@link ConstraintValidatorContext} may only be used by
+ * {@link #isValidAsync(Object, ConstraintValidatorContext)} before it returns, e.g. to
+ * disable the default constraint violation and build a custom one; it must not be used
+ * when completing the returned stage.
+ *
+ * @param <A> the annotation type handled by an implementation
+ * @param <T> the target type supported by an implementation
+ *
+ * @since 4.0
+ */
+public interface AsyncConstraintValidator<A extends Annotation, T> extends ConstraintValidator<A, T> {
+
+	/**
+	 * Implements the validation logic asynchronously.
+	 * The state of {@code value} must not be altered.
+	 * <p>
+	 * This method can be accessed concurrently, thread-safety must be ensured
+	 * by the implementation.
+	 *
+	 * @param value object to validate
+	 * @param context context in which the constraint is evaluated
+	 *
+	 * @return a stage completed with {@code false} if {@code value} does not pass the
+	 *         constraint, {@code true} otherwise, or completed exceptionally if the validation
+	 *         logic fails; neither the stage nor its result may be {@code null}
+	 */
+	CompletionStage<Boolean> isValidAsync(T value, ConstraintValidatorContext context);
+
+	/**
+	 * Implements the validation logic by waiting for the result of
+	 * {@link #isValidAsync(Object, ConstraintValidatorContext)}.
+	 *
+	 * @param value object to validate
+	 * @param context context in which the constraint is evaluated
+	 *
+	 * @return {@code false} if {@code value} does not pass the constraint
+	 * @throws ValidationException if the returned stage is {@code null}, completed
+	 *         exceptionally, was cancelled or completed with {@code null}
+	 */
+	@Override
+	default boolean isValid(T value, ConstraintValidatorContext context) {
+		CompletionStage<Boolean> result = isValidAsync( value, context );
+		if ( result == null ) {
+			throw new ValidationException( "The asynchronous constraint validator returned no stage." );
+		}
+		Boolean valid;
+		try {
+			valid = result.toCompletableFuture().join();
+		}
+		catch (CompletionException e) {
+			if ( e.getCause() instanceof ValidationException ) {
+				throw (ValidationException) e.getCause();
+			}
+			throw new ValidationException( "Unable to evaluate the asynchronous constraint.", e.getCause() );
+		}
+		catch (CancellationException e) {
+			throw new ValidationException( "The evaluation of the asynchronous constraint was cancelled.", e );
+		}
+		if ( valid == null ) {
+			throw new ValidationException( "The asynchronous constraint validator completed with a null result." );
+		}
+		return valid;
+	}
+}
@@ -0,0 +1,196 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The result of the validation of a batch of objects, see
+ * {@link Validator#validateAll(Iterable, Class[])}.
+ * <p>
+ * The result is compact: only the indices of the objects which violate a constraint are
+ * stored, along with their constraint violations, so validating a batch of mostly valid
+ * objects does not allocate anything per valid object.
+ * <p>
+ * Instances are immutable and thread-safe, provided the sets of constraint violations they
+ * hold are not modified.
+ *
+ * @param <T> the type of the validated objects
+ *
+ * @since 4.0
+ */
+public final class BatchValidationResult<T> {
+
+	private final int size;
+
+	//sorted in ascending order
+	private final int[] failingIndices;
+
+	//constraint violations of the object at the same position in failingIndices
+	private final List<Set<ConstraintViolation<T>>> violations;
+
+	private BatchValidationResult(int size, int[] failingIndices, List<Set<ConstraintViolation<T>>> violations) {
+		this.size = size;
+		this.failingIndices = failingIndices;
+		this.violations = violations;
+	}
+
+	/**
+	 * Returns a new builder. The result is built by adding the constraint violations of each
+	 * object of the batch, in order.
+	 *
+	 * @param <T> the type of the validated objects
+	 * @return the builder
+	 */
+	public static <T> Builder<T> builder() {
+		return new Builder<>();
+	}
+
+	/**
+	 * Returns the number of validated objects.
+	 *
+	 * @return the size of the batch
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns whether no validated object violates a constraint.
+	 *
+	 * @return {@code true} if all the objects are valid
+	 */
+	public boolean isValid() {
+		return failingIndices.length == 0;
+	}
+
+	/**
+	 * Returns whether the object at the given index does not violate any constraint.
+	 *
+	 * @param index the index of the object in the batch
+	 * @return {@code true} if the object is valid
+	 * @throws IndexOutOfBoundsException if {@code index} is not a valid index of the batch
+	 */
+	public boolean isValid(int index) {
+		return position( index ) < 0;
+	}
+
+	/**
+	 * Returns the indices of the objects which violate a constraint, in ascending order.
+	 *
+	 * @return the indices of the invalid objects or an empty array if none
+	 */
+	public int[] getFailingIndices() {
+		return failingIndices.clone();
+	}
+
+	/**
+	 * Returns the constraint violations of the object at the given index.
+	 *
+	 * @param index the index of the object in the batch
+	 * @return constraint violations or an empty set if none
+	 * @throws IndexOutOfBoundsException if {@code index} is not a valid index of the batch
+	 */
+	public Set<ConstraintViolation<T>> getViolations(int index) {
+		int position = position( index );
+		return position < 0 ? Collections.emptySet() : violations.get( position );
+	}
+
+	private int position(int index) {
+		if ( index < 0 || index >= size ) {
+			throw new IndexOutOfBoundsException( "Index " + index + " is out of bounds for a batch of size " + size + "." );
+		}
+		return Arrays.binarySearch( failingIndices, index );
+	}
+
+	@Override
+	public String toString() {
+		return "BatchValidationResult [size=" + size + ", failingIndices=" + Arrays.toString( failingIndices ) + "]";
+	}
+
+	/**
+	 * Builds a {@link BatchValidationResult}. Builders are not thread-safe.
+	 *
+	 * @param <T> the type of the validated objects
+	 *
+	 * @since 4.0
+	 */
+	public static final class Builder<T> {
+
+		private int size;
+
+		private int[] failingIndices = new int[8];
+
+		private final List<Set<ConstraintViolation<T>>> violations = new ArrayList<>();
+
+		private Builder() {
+		}
+
+		/**
+		 * Adds the constraint violations of the next object of the batch.
+		 *
+		 * @param objectViolations constraint violations or an empty set if none
+		 * @return {@code this} following the chaining method pattern
+		 * @throws IllegalArgumentException if {@code objectViolations} is {@code null}
+		 */
+		public Builder<T> add(Set<ConstraintViolation<T>> objectViolations) {
+			if ( objectViolations == null ) {
+				throw new IllegalArgumentException( "The constraint violations must not be null." );
+			}
+			if ( !objectViolations.isEmpty() ) {
+				addFailure( size, objectViolations );
+			}
+			size++;
+			return this;
+		}
+
+		/**
+		 * Adds the results of the objects of another batch, the objects of which come next
+		 * in this batch.
+		 *
+		 * @param result the result of the other batch
+		 * @return {@code this} following the chaining method pattern
+		 * @throws IllegalArgumentException if {@code result} is {@code null}
+		 */
+		public Builder<T> addAll(BatchValidationResult<T> result) {
+			if ( result == null ) {
+				throw new IllegalArgumentException( "The batch validation result must not be null." );
+			}
+			for ( int i = 0; i < result.failingIndices.length; i++ ) {
+				addFailure( size + result.failingIndices[i], result.violations.get( i ) );
+			}
+			size += result.size;
+			return this;
+		}
+
+		/**
+		 * Returns the result of the batch.
+		 *
+		 * @return the result
+		 */
+		public BatchValidationResult<T> build() {
+			return new BatchValidationResult<>(
+					size,
+					Arrays.copyOf( failingIndices, violations.size() ),
+					Collections.unmodifiableList( new ArrayList<>( violations ) )
+			);
+		}
+
+		private void addFailure(int index, Set<ConstraintViolation<T>> objectViolations) {
+			int failureCount = violations.size();
+			if ( failureCount == failingIndices.length ) {
+				failingIndices = Arrays.copyOf( failingIndices, failureCount * 2 );
+			}
+			failingIndices[failureCount] = index;
+			violations.add( objectViolations );
+		}
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The validation of the instances of a given bean type against a given list of groups,
+ * prepared once by {@link Validator#compile(Class, Class[])} and reused for each instance.
+ * <p>
+ * The provider may resolve the group sequences, the default group sequence redefinitions
+ * and the group conversions, order the constraints and initialize the constraint validators
+ * when the plan is compiled, so that none of this is done again when validating an instance.
+ * <p>
+ * Implementations must be immutable and thread-safe.
+ *
+ * @param <T> the bean type
+ *
+ * @since 4.0
+ */
+public interface BeanValidationPlan<T> {
+
+	/**
+	 * Returns the bean type this plan was compiled for.
+	 *
+	 * @return the bean type
+	 */
+	Class<T> getBeanClass();
+
+	/**
+	 * Returns the groups targeted by this plan, as given when the plan was compiled.
+	 *
+	 * @return the groups, empty if the plan targets the {@code Default} group
+	 */
+	List<Class<?>> getGroups();
+
+	/**
+	 * Validates all constraints on {@code object}.
+	 * <p>
+	 * The result is the same as the one of {@link Validator#validate(Object, Class[])} with
+	 * the groups of this plan. If {@code object} is an instance of a subtype of the bean
+	 * type, the constraints of the subtype are validated too, though the provider may not be
+	 * able to use the prepared validation for them.
+	 *
+	 * @param object object to validate
+	 * @return constraint violations or an empty set if none
+	 * @throws IllegalArgumentException if object is {@code null} or not an instance
+	 *         of the bean type
+	 * @throws ValidationException if a non recoverable error happens
+	 *         during the validation process
+	 */
+	Set<ConstraintViolation<T>> validate(T object);
+
+	/**
+	 * Returns whether all constraints on {@code object} are satisfied.
+	 * <p>
+	 * The result is the same as the one of {@link Validator#isValid(Object, Class[])} with
+	 * the groups of this plan.
+	 *
+	 * @param object object to validate
+	 * @return {@code true} if no constraint is violated, {@code false} otherwise
+	 * @throws IllegalArgumentException if object is {@code null} or not an instance
+	 *         of the bean type
+	 * @throws ValidationException if a non recoverable error happens
+	 *         during the validation process
+	 */
+	boolean isValid(T object);
+}
@@ -6,6 +6,7 @@
  */
 package jakarta.validation;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 
@@ -96,6 +97,19 @@ public interface BootstrapConfiguration {
 	 */
 	Set<String> getConstraintMappingResourcePaths();
 
+	/**
+	 * Returns the fully qualified names of the types to warm up when the
+	 * {@link ValidatorFactory} is built (see {@link ValidatorFactory#warmUp(java.util.Collection, java.util.concurrent.Executor)}).
+	 *
+	 * @return the names of the types to warm up or an empty set if none are specified
+	 *
+	 * @implNote The default implementation returns an empty set.
+	 * @since 4.0
+	 */
+	default Set<String> getWarmUpClassNames() {
+		return Collections.emptySet();
+	}
+
 	/**
 	 * Returns true if the validation execution is explicitly marked as enabled
 	 * or if it is left undefined.
@@ -0,0 +1,55 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+/**
+ * Allows cancelling the validation calls of a {@link Validator} from another thread, e.g.
+ * when the request being validated is abandoned.
+ * <p>
+ * The token is passed to {@link ValidatorContext#cancellationToken(CancellationToken)};
+ * once it is cancelled, the validation calls in progress, and any later one, of the
+ * validators created with it abort with a {@link ValidationAbortedException}. Cancellation
+ * is cooperative: the provider checks the token between the evaluation of two constraints
+ * and between two cascading steps, so the evaluation of a single constraint is not
+ * interrupted.
+ * <p>
+ * Instances are thread-safe.
+ *
+ * @since 4.0
+ */
+public final class CancellationToken {
+
+	private volatile boolean cancelled;
+
+	/**
+	 * Creates a token which is not cancelled.
+	 */
+	public CancellationToken() {
+	}
+
+	/**
+	 * Cancels the validation calls using this token. Cancelling a token more than once has
+	 * no effect.
+	 */
+	public void cancel() {
+		cancelled = true;
+	}
+
+	/**
+	 * Returns whether this token is cancelled.
+	 *
+	 * @return {@code true} if {@link #cancel()} was invoked
+	 */
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	@Override
+	public String toString() {
+		return "CancellationToken [cancelled=" + cancelled + "]";
+	}
+}
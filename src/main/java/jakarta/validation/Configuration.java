@@ -7,7 +7,12 @@
 package jakarta.validation;
 
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
+import jakarta.validation.spi.MetadataSnapshot;
 import jakarta.validation.spi.ValidationProvider;
 import jakarta.validation.valueextraction.ValueExtractor;
 import jakarta.validation.valueextraction.ValueExtractorDeclarationException;
@@ -56,6 +61,22 @@ import jakarta.validation.valueextraction.ValueExtractorDeclarationException;
  */
 public interface Configuration<T extends Configuration<T>> {
 
+	/**
+	 * The name of the property enabling the fail fast mode, see {@link #failFast(boolean)}.
+	 * It may also be defined in {@code META-INF/validation.xml}.
+	 *
+	 * @since 4.0
+	 */
+	String FAIL_FAST_PROPERTY = "jakarta.validation.fail-fast";
+
+	/**
+	 * The name of the property defining the maximum number of constraint violations, see
+	 * {@link #maxViolations(int)}. It may also be defined in {@code META-INF/validation.xml}.
+	 *
+	 * @since 4.0
+	 */
+	String MAX_VIOLATIONS_PROPERTY = "jakarta.validation.max-violations";
+
 	/**
 	 * Ignores data from the {@code META-INF/validation.xml} file if this
 	 * method is called.
@@ -196,6 +217,83 @@ public interface Configuration<T extends Configuration<T>> {
 	 */
 	T addProperty(String name, String value);
 
+	/**
+	 * Enables or disables the fail fast mode of the {@link Validator}s created by the
+	 * {@link ValidatorFactory}.
+	 * <p>
+	 * In fail fast mode, validation stops as soon as a constraint violation is found,
+	 * across groups, group sequences and cascaded validation, and the returned set of
+	 * constraint violations contains this single violation. Which violation is reported
+	 * if several constraints are violated is not specified.
+	 * <p>
+	 * The fail fast mode is disabled by default. It can be overridden for a given
+	 * {@code Validator} using {@link ValidatorContext#failFast(boolean)}.
+	 *
+	 * @param failFast whether the fail fast mode is enabled
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @implNote The default implementation sets the {@value #FAIL_FAST_PROPERTY} property
+	 *          using {@link #addProperty(String, String)}.
+	 * @since 4.0
+	 */
+	default T failFast(boolean failFast) {
+		return addProperty( FAIL_FAST_PROPERTY, Boolean.toString( failFast ) );
+	}
+
+	/**
+	 * Defines the maximum number of constraint violations reported by a validation call
+	 * of the {@link Validator}s created by the {@link ValidatorFactory}.
+	 * <p>
+	 * Once the maximum number of constraint violations is reached, validation is halted,
+	 * so that the memory and CPU spent on invalid objects are bounded, and the returned set
+	 * of constraint violations is a {@link ConstraintViolationSet} marked as truncated.
+	 * Which violations are reported if more constraints are violated is not specified.
+	 * <p>
+	 * The number of constraint violations is not limited by default. A maximum of {@code 1}
+	 * is equivalent to the fail fast mode (see {@link #failFast(boolean)}). It can be
+	 * overridden for a given {@code Validator} using {@link ValidatorContext#maxViolations(int)}.
+	 *
+	 * @param maxViolations the maximum number of constraint violations
+	 * @return {@code this} following the chaining method pattern
+	 * @throws IllegalArgumentException if {@code maxViolations} is lower than {@code 1}
+	 *
+	 * @implNote The default implementation sets the {@value #MAX_VIOLATIONS_PROPERTY} property
+	 *          using {@link #addProperty(String, String)}.
+	 * @since 4.0
+	 */
+	default T maxViolations(int maxViolations) {
+		if ( maxViolations < 1 ) {
+			throw new IllegalArgumentException( "The maximum number of constraint violations must be at least 1." );
+		}
+		return addProperty( MAX_VIOLATIONS_PROPERTY, Integer.toString( maxViolations ) );
+	}
+
+	/**
+	 * Defines the metadata snapshot file the Jakarta Validation provider should restore the
+	 * constraint metadata from, instead of building it by reflection.
+	 * <p>
+	 * The snapshot is typically written at build time using
+	 * {@link ValidatorFactory#writeMetadataSnapshot(java.util.Collection, Path)}. It is
+	 * ignored if it does not exist, if it was written by another provider or if the class
+	 * file of one of its types or of their supertypes, or the constraint mappings, have
+	 * changed since it was written (see {@link MetadataSnapshot}).
+	 * If the provider does not support metadata snapshots, it must silently ignore it.
+	 *
+	 * @param path the location of the snapshot file
+	 * @return {@code this} following the chaining method pattern
+	 * @throws IllegalArgumentException if {@code path} is null
+	 *
+	 * @implNote The default implementation sets the {@value MetadataSnapshot#LOCATION_PROPERTY}
+	 *          property using {@link #addProperty(String, String)}.
+	 * @since 4.0
+	 */
+	default T metadataSnapshot(Path path) {
+		if ( path == null ) {
+			throw new IllegalArgumentException( "The metadata snapshot path must not be null." );
+		}
+		return addProperty( MetadataSnapshot.LOCATION_PROPERTY, path.toString() );
+	}
+
 	/**
 	 * Returns an implementation of the {@link MessageInterpolator} interface
 	 * following the default {@code MessageInterpolator} defined in the
@@ -301,4 +399,43 @@ public interface Configuration<T extends Configuration<T>> {
 	 * @throws ValidationException if the {@code ValidatorFactory} cannot be built
 	 */
 	ValidatorFactory buildValidatorFactory();
+
+	/**
+	 * Builds a {@link ValidatorFactory} implementation asynchronously, using the given
+	 * {@link Executor}, so that the caller can carry on with its own initialization while
+	 * mappings are parsed and metadata is prepared.
+	 * <p>
+	 * This {@code Configuration} must not be modified, and the mapping streams added to it
+	 * must not be closed, until the returned stage has completed. The {@code ValidatorFactory}
+	 * is built with the context class loader of the calling thread as the context class
+	 * loader, so that it locates the same resources as {@link #buildValidatorFactory()}.
+	 *
+	 * @param executor the executor used to build the {@code ValidatorFactory}
+	 * @return a stage completed with the {@code ValidatorFactory}, or completed exceptionally
+	 *         with a {@link java.util.concurrent.CompletionException} whose cause is the
+	 *         {@link ValidationException} raised if the {@code ValidatorFactory} cannot be built
+	 * @throws IllegalArgumentException if {@code executor} is {@code null}
+	 *
+	 * @implNote The default implementation invokes {@link #buildValidatorFactory()} in a task
+	 *          submitted to {@code executor}. Implementations may override this method to
+	 *          parallelize the work further.
+	 * @since 4.0
+	 */
+	default CompletionStage<ValidatorFactory> buildValidatorFactoryAsync(Executor executor) {
+		if ( executor == null ) {
+			throw new IllegalArgumentException( "The executor must not be null." );
+		}
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		return CompletableFuture.supplyAsync( () -> {
+			Thread thread = Thread.currentThread();
+			ClassLoader executorContextClassLoader = thread.getContextClassLoader();
+			thread.setContextClassLoader( contextClassLoader );
+			try {
+				return buildValidatorFactory();
+			}
+			finally {
+				thread.setContextClassLoader( executorContextClassLoader );
+			}
+		}, executor );
+	}
 }
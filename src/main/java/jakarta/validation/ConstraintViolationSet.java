@@ -0,0 +1,45 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+import java.util.Set;
+
+/**
+ * A set of constraint violations returned by a {@link Validator}, which tells whether
+ * validation was halted before all constraints had been evaluated because the maximum
+ * number of constraint violations was reached (see {@link ValidatorContext#maxViolations(int)}).
+ * <p>
+ * Validators halting validation must return an instance of this interface; otherwise,
+ * they may return any {@code Set}. Use {@link #isTruncated(Set)} to check a returned set.
+ *
+ * @param <T> the type of the root bean
+ *
+ * @since 4.0
+ */
+public interface ConstraintViolationSet<T> extends Set<ConstraintViolation<T>> {
+
+	/**
+	 * Returns whether validation was halted because the maximum number of constraint
+	 * violations was reached, in which case more constraints might be violated than the
+	 * ones contained in this set.
+	 *
+	 * @return {@code true} if the set of constraint violations is truncated
+	 */
+	boolean isTruncated();
+
+	/**
+	 * Returns whether the given set of constraint violations, as returned by a
+	 * {@link Validator}, is truncated.
+	 *
+	 * @param violations the constraint violations
+	 * @return {@code true} if {@code violations} is a {@code ConstraintViolationSet}
+	 *         which is truncated
+	 */
+	static boolean isTruncated(Set<? extends ConstraintViolation<?>> violations) {
+		return violations instanceof ConstraintViolationSet && ( (ConstraintViolationSet<?>) violations ).isTruncated();
+	}
+}
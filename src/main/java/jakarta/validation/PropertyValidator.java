@@ -0,0 +1,80 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Validates the constraints placed on a given property of a bean type against a given
+ * list of groups, as prepared once by {@link Validator#forProperty(Class, String, Class, Class[])}.
+ * <p>
+ * The provider may look up the property and its constraints, resolve the groups and
+ * initialize the constraint validators when the handle is obtained, so that validating a
+ * property does not involve looking up the property by its name nor any reflection beyond
+ * reading the property value.
+ * <p>
+ * Implementations must be immutable and thread-safe.
+ *
+ * @param <T> the bean type
+ * @param <V> the type of the property
+ *
+ * @since 4.0
+ */
+public interface PropertyValidator<T, V> {
+
+	/**
+	 * Returns the bean type hosting the property.
+	 *
+	 * @return the bean type
+	 */
+	Class<T> getBeanClass();
+
+	/**
+	 * Returns the name of the property according to the Java Bean specification.
+	 *
+	 * @return the property name
+	 */
+	String getPropertyName();
+
+	/**
+	 * Returns the groups targeted by this handle, as given when it was obtained.
+	 *
+	 * @return the groups, empty if the handle targets the {@code Default} group
+	 */
+	List<Class<?>> getGroups();
+
+	/**
+	 * Validates all constraints placed on the property of {@code object}.
+	 * <p>
+	 * The result is the same as the one of
+	 * {@link Validator#validateProperty(Object, String, Class[])} for this property and
+	 * the groups of this handle.
+	 *
+	 * @param object object hosting the property to validate
+	 * @return constraint violations or an empty set if none
+	 * @throws IllegalArgumentException if {@code object} is {@code null} or not an
+	 *         instance of the bean type
+	 * @throws ValidationException if a non recoverable error happens
+	 *         during the validation process
+	 */
+	Set<ConstraintViolation<T>> validateProperty(T object);
+
+	/**
+	 * Validates all constraints placed on the property would its value be {@code value}.
+	 * <p>
+	 * The result is the same as the one of
+	 * {@link Validator#validateValue(Class, String, Object, Class[])} for this property and
+	 * the groups of this handle.
+	 *
+	 * @param value property value to validate
+	 * @return constraint violations or an empty set if none
+	 * @throws ValidationException if a non recoverable error happens
+	 *         during the validation process
+	 */
+	Set<ConstraintViolation<T>> validateValue(V value);
+}
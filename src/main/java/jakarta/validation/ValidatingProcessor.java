@@ -0,0 +1,335 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import jakarta.validation.groups.Default;
+
+/**
+ * A {@link Flow.Processor} validating each element of a reactive stream with a
+ * {@link Validator}.
+ * <p>
+ * Valid elements are forwarded to the subscriber of the processor, in the order they
+ * were received. Invalid elements are not forwarded: they are passed, along with their
+ * constraint violations, to the consumer of invalid elements given when creating the
+ * processor.
+ * <p>
+ * The elements are validated by tasks submitted to the given {@link Executor}; at most
+ * {@code parallelism} elements are requested from the upstream publisher and not yet
+ * forwarded or passed to the consumer of invalid elements at any time, and never more
+ * than the subscriber requested. A validation failing with an exception or returning
+ * {@code null}, or the consumer of invalid elements or the subscriber throwing an
+ * exception, cancels the upstream subscription and signals the failure to the subscriber,
+ * once.
+ * <p>
+ * The processor supports a single subscriber and a single upstream subscription.
+ *
+ * @param <T> the type of the elements
+ *
+ * @since 4.0
+ */
+public final class ValidatingProcessor<T> implements Flow.Processor<T, T> {
+
+	private final Validator validator;
+
+	private final BiConsumer<? super T, ? super Set<ConstraintViolation<T>>> invalidElementConsumer;
+
+	private final Executor executor;
+
+	private final int parallelism;
+
+	private final Class<?>[] groups;
+
+	private final AtomicBoolean subscribed = new AtomicBoolean();
+
+	//set once the subscriber has received its subscription, so that it is not signaled before
+	private volatile Flow.Subscriber<? super T> downstream;
+
+	private volatile Flow.Subscription upstream;
+
+	//elements received and not yet forwarded or passed to the consumer of invalid elements, in reception order
+	private final Queue<Element<T>> elements = new ConcurrentLinkedQueue<>();
+
+	//demand of the subscriber not yet fulfilled, Long.MAX_VALUE meaning unbounded
+	private final AtomicLong demand = new AtomicLong();
+
+	private volatile boolean upstreamDone;
+
+	private volatile Throwable upstreamError;
+
+	private volatile Throwable downstreamError;
+
+	private volatile boolean cancelled;
+
+	//ensures a single thread drains at a time, counting the drain requests received meanwhile
+	private final AtomicInteger drainRequests = new AtomicInteger();
+
+	//the following fields are only accessed by the draining thread
+
+	//elements requested from the upstream publisher and not yet forwarded or passed to the consumer of invalid elements
+	private long outstanding;
+
+	private boolean terminated;
+
+	/**
+	 * Creates a processor.
+	 *
+	 * @param validator the validator validating the elements
+	 * @param invalidElementConsumer the consumer of the invalid elements and their
+	 *        constraint violations; it is never invoked concurrently
+	 * @param executor the executor running the validation of the elements
+	 * @param parallelism the maximum number of elements being validated concurrently
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @throws IllegalArgumentException if {@code validator}, {@code invalidElementConsumer}
+	 *         or {@code executor} is {@code null}, if {@code parallelism} is lower than 1
+	 *         or if {@code null} is passed to the varargs groups
+	 */
+	public ValidatingProcessor(Validator validator, BiConsumer<? super T, ? super Set<ConstraintViolation<T>>> invalidElementConsumer,
+			Executor executor, int parallelism, Class<?>... groups) {
+		if ( validator == null || invalidElementConsumer == null || executor == null ) {
+			throw new IllegalArgumentException( "The validator, the consumer of invalid elements and the executor must not be null." );
+		}
+		if ( parallelism < 1 ) {
+			throw new IllegalArgumentException( "The parallelism must be greater than 0, but was " + parallelism + "." );
+		}
+		if ( groups == null || Arrays.asList( groups ).contains( null ) ) {
+			throw new IllegalArgumentException( "The groups must not be null." );
+		}
+		this.validator = validator;
+		this.invalidElementConsumer = invalidElementConsumer;
+		this.executor = executor;
+		this.parallelism = parallelism;
+		this.groups = groups.clone();
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super T> subscriber) {
+		if ( subscriber == null ) {
+			throw new NullPointerException( "The subscriber must not be null." );
+		}
+		if ( !subscribed.compareAndSet( false, true ) ) {
+			subscriber.onSubscribe( new Flow.Subscription() {
+
+				@Override
+				public void request(long n) {
+				}
+
+				@Override
+				public void cancel() {
+				}
+			} );
+			subscriber.onError( new IllegalStateException( "The processor supports a single subscriber." ) );
+			return;
+		}
+		subscriber.onSubscribe( new Flow.Subscription() {
+
+			@Override
+			public void request(long n) {
+				if ( n <= 0 ) {
+					downstreamError = new IllegalArgumentException( "The number of requested elements must be positive, but was " + n + "." );
+				}
+				else {
+					demand.accumulateAndGet( n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added );
+				}
+				drain();
+			}
+
+			@Override
+			public void cancel() {
+				cancelled = true;
+				drain();
+			}
+		} );
+		downstream = subscriber;
+		drain();
+	}
+
+	@Override
+	public void onSubscribe(Flow.Subscription subscription) {
+		if ( upstream != null ) {
+			subscription.cancel();
+			return;
+		}
+		upstream = subscription;
+		drain();
+	}
+
+	@Override
+	public void onNext(T item) {
+		Element<T> element = new Element<>( item );
+		elements.add( element );
+		try {
+			executor.execute( () -> {
+				try {
+					Set<ConstraintViolation<T>> violations = validator.validate( item, groups );
+					if ( violations == null ) {
+						throw new ValidationException( "The validator returned no set of constraint violations for " + item + "." );
+					}
+					element.violations = violations;
+				}
+				catch (Throwable e) {
+					element.failure = e;
+				}
+				element.done = true;
+				drain();
+			} );
+		}
+		catch (Throwable e) {
+			element.failure = e;
+			element.done = true;
+			drain();
+		}
+	}
+
+	@Override
+	public void onError(Throwable throwable) {
+		upstreamError = throwable;
+		upstreamDone = true;
+		drain();
+	}
+
+	@Override
+	public void onComplete() {
+		upstreamDone = true;
+		drain();
+	}
+
+	private void drain() {
+		if ( drainRequests.getAndIncrement() != 0 ) {
+			return;
+		}
+		int missed = 1;
+		do {
+			Flow.Subscriber<? super T> subscriber = downstream;
+			if ( subscriber != null ) {
+				if ( !terminated && ( cancelled || downstreamError != null ) ) {
+					terminated = true;
+					cancelUpstream();
+					if ( !cancelled ) {
+						signalTermination( subscriber, downstreamError );
+					}
+				}
+				if ( terminated ) {
+					elements.clear();
+				}
+				else {
+					emit( subscriber );
+				}
+			}
+			missed = drainRequests.addAndGet( -missed );
+		}
+		while ( missed != 0 );
+	}
+
+	private void emit(Flow.Subscriber<? super T> subscriber) {
+		Element<T> element;
+		while ( ( element = elements.peek() ) != null && element.done ) {
+			if ( element.failure != null ) {
+				fail( subscriber, element.failure );
+				return;
+			}
+			if ( element.violations.isEmpty() ) {
+				long currentDemand = demand.get();
+				if ( currentDemand == 0 ) {
+					break;
+				}
+				if ( currentDemand != Long.MAX_VALUE ) {
+					demand.decrementAndGet();
+				}
+				elements.poll();
+				outstanding--;
+				try {
+					subscriber.onNext( element.item );
+				}
+				catch (Throwable e) {
+					fail( subscriber, e );
+					return;
+				}
+			}
+			else {
+				elements.poll();
+				outstanding--;
+				try {
+					invalidElementConsumer.accept( element.item, element.violations );
+				}
+				catch (Throwable e) {
+					fail( subscriber, e );
+					return;
+				}
+			}
+		}
+
+		if ( upstreamDone ) {
+			if ( elements.isEmpty() ) {
+				terminated = true;
+				signalTermination( subscriber, upstreamError );
+			}
+		}
+		else if ( upstream != null ) {
+			long missing = Math.min( parallelism, demand.get() ) - outstanding;
+			if ( missing > 0 ) {
+				outstanding += missing;
+				upstream.request( missing );
+			}
+		}
+	}
+
+	private void fail(Flow.Subscriber<? super T> subscriber, Throwable failure) {
+		terminated = true;
+		elements.clear();
+		cancelUpstream();
+		signalTermination( subscriber, failure );
+	}
+
+	//signals the completion, or the given failure, to the terminated subscriber
+	private void signalTermination(Flow.Subscriber<? super T> subscriber, Throwable failure) {
+		try {
+			if ( failure != null ) {
+				subscriber.onError( failure );
+			}
+			else {
+				subscriber.onComplete();
+			}
+		}
+		catch (Throwable e) {
+			// nothing else can be signaled to the subscriber
+		}
+	}
+
+	private void cancelUpstream() {
+		Flow.Subscription subscription = upstream;
+		if ( subscription != null ) {
+			subscription.cancel();
+		}
+	}
+
+	private static class Element<T> {
+
+		private final T item;
+
+		private volatile Set<ConstraintViolation<T>> violations;
+
+		private volatile Throwable failure;
+
+		private volatile boolean done;
+
+		private Element(T item) {
+			this.item = item;
+		}
+	}
+}
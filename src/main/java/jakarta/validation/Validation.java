@@ -6,19 +6,57 @@
  */
 package jakarta.validation;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
-import java.util.WeakHashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 import jakarta.validation.bootstrap.GenericBootstrap;
 import jakarta.validation.bootstrap.ProviderSpecificBootstrap;
 import jakarta.validation.spi.BootstrapState;
+import jakarta.validation.spi.ConfigurationState;
 import jakarta.validation.spi.ValidationProvider;
+import jakarta.validation.valueextraction.ValueExtractor;
 
 /**
  * This class is the entry point for Jakarta Validation.
@@ -156,6 +194,83 @@ public final class Validation {
 		return new ProviderSpecificBootstrapImpl<>( providerType );
 	}
 
+	/**
+	 * Returns a {@link ValidatorFactory} based on the default Jakarta Validation provider
+	 * and following the XML configuration, shared with the other callers of this method
+	 * and of {@link #buildSharedValidatorFactory(Configuration)} using an equivalent
+	 * configuration.
+	 * <p>
+	 * The code is semantically equivalent to
+	 * {@code Validation.buildSharedValidatorFactory(Validation.byDefaultProvider().configure())}.
+	 *
+	 * @return a handle on the shared {@code ValidatorFactory} instance
+	 *
+	 * @throws NoProviderFoundException if no Jakarta Validation provider was found
+	 * @throws ValidationException if a Jakarta Validation provider was found but the
+	 * {@code ValidatorFactory} cannot be built
+	 *
+	 * @since 4.0
+	 */
+	public static ValidatorFactory buildSharedDefaultValidatorFactory() {
+		return buildSharedValidatorFactory( byDefaultProvider().configure() );
+	}
+
+	/**
+	 * Returns a {@link ValidatorFactory} built from the given {@link Configuration} and
+	 * shared with the other callers passing an equivalent configuration, so that libraries
+	 * living in the same class loader do not each build and maintain an identical factory.
+	 * <p>
+	 * Two configurations are equivalent if they are handled by the same {@code Configuration}
+	 * implementation, are passed with the same thread context class loader, have equal
+	 * {@link BootstrapConfiguration} contents and if their {@link ConfigurationState} has
+	 * the same:
+	 * <ul>
+	 *     <li>{@code ignoreXmlConfiguration} flag,</li>
+	 *     <li>message interpolator, traversable resolver, constraint validator factory,
+	 *     parameter name provider and clock provider,</li>
+	 *     <li>value extractors,</li>
+	 *     <li>mapping stream contents,</li>
+	 *     <li>properties.</li>
+	 * </ul>
+	 * The default components of the configuration and the components declared in
+	 * {@code META-INF/validation.xml} are compared by class. The components set on the
+	 * configuration are compared with {@code equals()}: unless their type defines which
+	 * instances are equivalent, only configurations using the very same component instances
+	 * share a factory.
+	 * <p>
+	 * If an equivalent configuration already has a shared factory, the given configuration is
+	 * not built; its mapping streams are left open, as for any configuration they remain
+	 * owned by the caller. The first caller for a configuration builds the factory; the
+	 * concurrent callers for an equivalent configuration wait for it.
+	 * <p>
+	 * Each call returns a new handle on the shared factory. Closing a handle releases it; the
+	 * shared factory is closed once all its handles have been closed. A subsequent call with
+	 * an equivalent configuration then builds a new factory.
+	 *
+	 * @param configuration the configuration of the factory; it must implement
+	 *        {@code ConfigurationState} so that it can be compared with the configuration of
+	 *        the already built factories
+	 * @return a handle on the shared {@code ValidatorFactory} instance
+	 *
+	 * @throws IllegalArgumentException if {@code configuration} is {@code null}
+	 * @throws ValidationException if {@code configuration} does not implement
+	 * {@code ConfigurationState} or if the {@code ValidatorFactory} cannot be built
+	 *
+	 * @since 4.0
+	 */
+	public static ValidatorFactory buildSharedValidatorFactory(Configuration<?> configuration) {
+		if ( configuration == null ) {
+			throw new IllegalArgumentException( "The configuration must not be null." );
+		}
+		if ( !( configuration instanceof ConfigurationState ) ) {
+			throw new ValidationException(
+					"Unable to share the ValidatorFactory, the configuration " + configuration.getClass().getName()
+							+ " does not expose its ConfigurationState."
+			);
+		}
+		return SharedValidatorFactories.acquire( configuration, (ConfigurationState) configuration );
+	}
+
 	/**
 	 * Not a public API; it can be used reflectively by code that integrates with Jakarta Validation, e.g. application
 	 * servers, to clear the provider cache maintained by the default provider resolver.
@@ -172,6 +287,19 @@ public final class Validation {
 	private static class ProviderSpecificBootstrapImpl<T extends Configuration<T>, U extends ValidationProvider<T>>
 			implements ProviderSpecificBootstrap<T> {
 
+		//no-arg constructors of the providers bootstrapped without a resolver, looked up once per provider class
+		private static final ClassValue<Constructor<?>> providerConstructors = new ClassValue<>() {
+			@Override
+			protected Constructor<?> computeValue(Class<?> type) {
+				try {
+					return type.getDeclaredConstructor();
+				}
+				catch (NoSuchMethodException | RuntimeException e) {
+					throw new ValidationException( "Cannot instantiate provider type: " + type, e );
+				}
+			}
+		};
+
 		private final Class<U> validationProviderClass;
 		private ValidationProviderResolver resolver;
 
@@ -207,24 +335,21 @@ public final class Validation {
 						"builder is mandatory. Use Validation.byDefaultProvider() to use the generic provider discovery mechanism"
 				);
 			}
-			//used mostly as a BootstrapState
-			GenericBootstrapImpl state = new GenericBootstrapImpl();
-
 			// if no resolver is given, simply instantiate the given provider
 			if ( resolver == null ) {
-
+				Constructor<?> constructor = providerConstructors.get( validationProviderClass );
 				try {
-					U provider = validationProviderClass.getDeclaredConstructor().newInstance();
-					return provider.createSpecializedConfiguration( state );
+					U provider = validationProviderClass.cast( constructor.newInstance() );
+					return provider.createSpecializedConfiguration( DefaultBootstrapState.INSTANCE );
 				}
-				catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException | RuntimeException e) {
+				catch (InstantiationException | IllegalAccessException | InvocationTargetException | RuntimeException e) {
 					throw new ValidationException( "Cannot instantiate provider type: " + validationProviderClass, e );
 				}
 			}
-			else {
-				//stay null if no resolver is defined
-				state.providerResolver( resolver );
-			}
+
+			//used mostly as a BootstrapState
+			GenericBootstrapImpl state = new GenericBootstrapImpl();
+			state.providerResolver( resolver );
 
 			List<ValidationProvider<?>> resolvers;
 			try {
@@ -245,6 +370,27 @@ public final class Validation {
 		}
 	}
 
+	/**
+	 * The immutable state used to bootstrap a specific provider when no resolver is given; it is shared as the default
+	 * provider resolver does not hold any per-instance state.
+	 */
+	private static final class DefaultBootstrapState implements BootstrapState {
+
+		private static final DefaultBootstrapState INSTANCE = new DefaultBootstrapState();
+
+		private final ValidationProviderResolver defaultResolver = new DefaultValidationProviderResolver();
+
+		@Override
+		public ValidationProviderResolver getValidationProviderResolver() {
+			return null;
+		}
+
+		@Override
+		public ValidationProviderResolver getDefaultValidationProviderResolver() {
+			return defaultResolver;
+		}
+	}
+
 	//private class, not exposed
 	private static class GenericBootstrapImpl implements GenericBootstrap, BootstrapState {
 
@@ -297,7 +443,7 @@ public final class Validation {
 
 			Configuration<?> config;
 			try {
-				config = resolver.getValidationProviders().get( 0 ).createGenericConfiguration( this );
+				config = validationProviders.get( 0 ).createGenericConfiguration( this );
 			}
 			catch ( RuntimeException re ) {
 				throw new ValidationException( "Unable to instantiate Configuration.", re );
@@ -307,66 +453,493 @@ public final class Validation {
 		}
 	}
 
+	/**
+	 * Registry of the factories built by {@link #buildSharedValidatorFactory(Configuration)}, each of them shared
+	 * by all the handles acquired for an equivalent configuration and closed when its last handle is closed.
+	 * <p>
+	 * Factories are built outside of the registry lock: the first caller for a configuration builds the factory
+	 * while the concurrent callers for an equivalent configuration wait for it, without blocking the callers for
+	 * other configurations.
+	 */
+	private static final class SharedValidatorFactories {
+
+		//guards sharedFactories and the reference count of its entries
+		private static final Lock lock = new ReentrantLock();
+
+		private static final Map<ConfigurationFingerprint, SharedValidatorFactory> sharedFactories = new HashMap<>();
+
+		private static ValidatorFactory acquire(Configuration<?> configuration, ConfigurationState configurationState) {
+			ConfigurationFingerprint fingerprint = new ConfigurationFingerprint( configuration, configurationState );
+
+			SharedValidatorFactory sharedFactory;
+			boolean builder = false;
+			lock.lock();
+			try {
+				sharedFactory = sharedFactories.get( fingerprint );
+				if ( sharedFactory == null ) {
+					sharedFactory = new SharedValidatorFactory( fingerprint );
+					sharedFactories.put( fingerprint, sharedFactory );
+					builder = true;
+				}
+				sharedFactory.referenceCount++;
+			}
+			finally {
+				lock.unlock();
+			}
+
+			if ( builder ) {
+				ValidatorFactory delegate;
+				try {
+					delegate = configuration.buildValidatorFactory();
+				}
+				catch (RuntimeException | Error e) {
+					lock.lock();
+					try {
+						sharedFactory.referenceCount--;
+						sharedFactories.remove( fingerprint, sharedFactory );
+					}
+					finally {
+						lock.unlock();
+					}
+					sharedFactory.delegate.completeExceptionally( e );
+					throw e;
+				}
+				sharedFactory.delegate.complete( delegate );
+				return new SharedValidatorFactoryHandle( sharedFactory, delegate );
+			}
+
+			try {
+				return new SharedValidatorFactoryHandle( sharedFactory, sharedFactory.delegate.join() );
+			}
+			catch (CompletionException e) {
+				lock.lock();
+				try {
+					sharedFactory.referenceCount--;
+				}
+				finally {
+					lock.unlock();
+				}
+				if ( e.getCause() instanceof ValidationException ) {
+					throw (ValidationException) e.getCause();
+				}
+				throw new ValidationException( "Unable to build the shared ValidatorFactory.", e.getCause() );
+			}
+		}
+
+		private static void release(SharedValidatorFactory sharedFactory, ValidatorFactory delegate) {
+			lock.lock();
+			try {
+				sharedFactory.referenceCount--;
+				if ( sharedFactory.referenceCount > 0 ) {
+					return;
+				}
+				sharedFactories.remove( sharedFactory.fingerprint, sharedFactory );
+			}
+			finally {
+				lock.unlock();
+			}
+			delegate.close();
+		}
+	}
+
+	private static final class SharedValidatorFactory {
+
+		private final ConfigurationFingerprint fingerprint;
+
+		//completed once the factory is built by the first caller
+		private final CompletableFuture<ValidatorFactory> delegate = new CompletableFuture<>();
+
+		//guarded by SharedValidatorFactories.lock
+		private int referenceCount;
+
+		private SharedValidatorFactory(ConfigurationFingerprint fingerprint) {
+			this.fingerprint = fingerprint;
+		}
+	}
+
+	/**
+	 * The handle returned to each caller of {@link #buildSharedValidatorFactory(Configuration)}; closing it releases
+	 * the shared factory, only once.
+	 */
+	private static final class SharedValidatorFactoryHandle implements ValidatorFactory {
+
+		private final SharedValidatorFactory sharedFactory;
+		private final ValidatorFactory delegate;
+		private final AtomicBoolean closed = new AtomicBoolean();
+
+		private SharedValidatorFactoryHandle(SharedValidatorFactory sharedFactory, ValidatorFactory delegate) {
+			this.sharedFactory = sharedFactory;
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Validator getValidator() {
+			return delegate.getValidator();
+		}
+
+		@Override
+		public ValidatorContext usingContext() {
+			return delegate.usingContext();
+		}
+
+		@Override
+		public MessageInterpolator getMessageInterpolator() {
+			return delegate.getMessageInterpolator();
+		}
+
+		@Override
+		public TraversableResolver getTraversableResolver() {
+			return delegate.getTraversableResolver();
+		}
+
+		@Override
+		public ConstraintValidatorFactory getConstraintValidatorFactory() {
+			return delegate.getConstraintValidatorFactory();
+		}
+
+		@Override
+		public ParameterNameProvider getParameterNameProvider() {
+			return delegate.getParameterNameProvider();
+		}
+
+		@Override
+		public ClockProvider getClockProvider() {
+			return delegate.getClockProvider();
+		}
+
+		@Override
+		public CompletionStage<Map<Class<?>, Duration>> warmUp(Collection<Class<?>> types, Executor executor) {
+			return delegate.warmUp( types, executor );
+		}
+
+		@Override
+		public void writeMetadataSnapshot(Collection<Class<?>> types, Path path) {
+			delegate.writeMetadataSnapshot( types, path );
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> type) {
+			if ( type.isInstance( delegate ) ) {
+				return type.cast( delegate );
+			}
+			return delegate.unwrap( type );
+		}
+
+		@Override
+		public void close() {
+			if ( closed.compareAndSet( false, true ) ) {
+				SharedValidatorFactories.release( sharedFactory, delegate );
+			}
+		}
+	}
+
+	/**
+	 * Identifies equivalent configurations, see {@link #buildSharedValidatorFactory(Configuration)}.
+	 */
+	private static final class ConfigurationFingerprint {
+
+		private final List<Object> components;
+		private final int hashCode;
+
+		private ConfigurationFingerprint(Configuration<?> configuration, ConfigurationState configurationState) {
+			//components set by the caller are compared with equals(), i.e. by identity unless they define their
+			//equivalence; the default and XML-declared ones are instantiated for each configuration, so by class
+			BootstrapConfiguration bootstrapConfiguration = configurationState.isIgnoreXmlConfiguration()
+					? null
+					: configuration.getBootstrapConfiguration();
+			Set<String> declaredValueExtractorClassNames = bootstrapConfiguration != null
+					&& bootstrapConfiguration.getValueExtractorClassNames() != null
+					? bootstrapConfiguration.getValueExtractorClassNames()
+					: Collections.emptySet();
+			Set<Object> valueExtractors = new HashSet<>();
+			for ( ValueExtractor<?> valueExtractor : configurationState.getValueExtractors() ) {
+				valueExtractors.add( declaredValueExtractorClassNames.contains( valueExtractor.getClass().getName() )
+						? valueExtractor.getClass()
+						: valueExtractor );
+			}
+			Set<String> mappingDigests = new HashSet<>();
+			for ( InputStream mappingStream : configurationState.getMappingStreams() ) {
+				mappingDigests.add( digest( mappingStream ) );
+			}
+
+			this.components = Arrays.asList(
+					configuration.getClass(),
+					Thread.currentThread().getContextClassLoader(),
+					bootstrapConfigurationOf( configuration ),
+					configurationState.isIgnoreXmlConfiguration(),
+					componentOf(
+							configurationState.getMessageInterpolator(),
+							configuration.getDefaultMessageInterpolator(),
+							bootstrapConfiguration != null ? bootstrapConfiguration.getMessageInterpolatorClassName() : null
+					),
+					componentOf(
+							configurationState.getTraversableResolver(),
+							configuration.getDefaultTraversableResolver(),
+							bootstrapConfiguration != null ? bootstrapConfiguration.getTraversableResolverClassName() : null
+					),
+					componentOf(
+							configurationState.getConstraintValidatorFactory(),
+							configuration.getDefaultConstraintValidatorFactory(),
+							bootstrapConfiguration != null ? bootstrapConfiguration.getConstraintValidatorFactoryClassName() : null
+					),
+					componentOf(
+							configurationState.getParameterNameProvider(),
+							configuration.getDefaultParameterNameProvider(),
+							bootstrapConfiguration != null ? bootstrapConfiguration.getParameterNameProviderClassName() : null
+					),
+					componentOf(
+							configurationState.getClockProvider(),
+							configuration.getDefaultClockProvider(),
+							bootstrapConfiguration != null ? bootstrapConfiguration.getClockProviderClassName() : null
+					),
+					valueExtractors,
+					mappingDigests,
+					new HashMap<>( configurationState.getProperties() )
+			);
+			this.hashCode = components.hashCode();
+		}
+
+		/**
+		 * Returns the class of the given component if it is the default one of the configuration or the one declared
+		 * in {@code META-INF/validation.xml}, as the information they carry is already part of the fingerprint; returns
+		 * the component itself if it was set by the caller.
+		 */
+		private static Object componentOf(Object component, Object defaultComponent, String declaredClassName) {
+			if ( component == null ) {
+				return null;
+			}
+			if ( component == defaultComponent || component.getClass().getName().equals( declaredClassName ) ) {
+				return component.getClass();
+			}
+			return component;
+		}
+
+		/**
+		 * Returns the content of the bootstrap configuration, as {@code BootstrapConfiguration} implementations are
+		 * not required to implement {@code equals()}.
+		 */
+		private static List<Object> bootstrapConfigurationOf(Configuration<?> configuration) {
+			BootstrapConfiguration bootstrapConfiguration = configuration.getBootstrapConfiguration();
+			if ( bootstrapConfiguration == null ) {
+				return null;
+			}
+			return Arrays.asList(
+					bootstrapConfiguration.getDefaultProviderClassName(),
+					bootstrapConfiguration.getConstraintValidatorFactoryClassName(),
+					bootstrapConfiguration.getMessageInterpolatorClassName(),
+					bootstrapConfiguration.getTraversableResolverClassName(),
+					bootstrapConfiguration.getParameterNameProviderClassName(),
+					bootstrapConfiguration.getClockProviderClassName(),
+					copyOf( bootstrapConfiguration.getValueExtractorClassNames() ),
+					copyOf( bootstrapConfiguration.getConstraintMappingResourcePaths() ),
+					copyOf( bootstrapConfiguration.getWarmUpClassNames() ),
+					bootstrapConfiguration.isExecutableValidationEnabled(),
+					copyOf( bootstrapConfiguration.getDefaultValidatedExecutableTypes() ),
+					bootstrapConfiguration.getProperties() != null ? new HashMap<>( bootstrapConfiguration.getProperties() ) : null
+			);
+		}
+
+		private static Set<?> copyOf(Set<?> set) {
+			return set != null ? new HashSet<>( set ) : null;
+		}
+
+		/**
+		 * Digests the content of a mapping stream, which the Jakarta Validation provider guarantees to support the
+		 * mark/reset contract, and resets the stream so that it can be read again to build the factory.
+		 */
+		private static String digest(InputStream mappingStream) {
+			try {
+				MessageDigest messageDigest = MessageDigest.getInstance( "SHA-256" );
+				mappingStream.mark( Integer.MAX_VALUE );
+				byte[] buffer = new byte[8192];
+				int read;
+				while ( ( read = mappingStream.read( buffer ) ) != -1 ) {
+					messageDigest.update( buffer, 0, read );
+				}
+				mappingStream.reset();
+				return Base64.getEncoder().encodeToString( messageDigest.digest() );
+			}
+			catch (IOException | NoSuchAlgorithmException e) {
+				throw new ValidationException( "Unable to read the constraint mapping stream.", e );
+			}
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof ConfigurationFingerprint ) ) {
+				return false;
+			}
+			return components.equals( ( (ConfigurationFingerprint) o ).components );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
 	/**
 	 * Finds {@link ValidationProvider} according to the default {@link ValidationProviderResolver} defined in the
 	 * Jakarta Validation specification. This implementation first uses thread's context classloader to locate providers.
 	 * If no suitable provider is found using the aforementioned class loader, it uses current class loader.
 	 * If it still does not find any suitable provider, it tries to locate the built-in provider using the current
 	 * class loader.
+	 * <p>
+	 * For a given class loader, the providers listed in the provider indexes
+	 * ({@code META-INF/validation-providers.idx}, see {@link ValidationProviderResolver}) come first; the service files
+	 * are only scanned once the indexed providers do not suffice, e.g. if none of them can be loaded or if all the
+	 * providers are requested. Class loaders without index are remembered so that the index is looked up only once.
 	 *
 	 * @author Emmanuel Bernard
 	 * @author Hardy Ferentschik
 	 */
 	private static class DefaultValidationProviderResolver implements ValidationProviderResolver {
 
+		private static final String PROVIDER_INDEX_RESOURCE = "META-INF/validation-providers.idx";
+
 		//cache per classloader for an appropriate discovery
-		//keep them in a weak hash map to avoid memory leaks and allow proper hot redeployment
-		private static final WeakHashMap<ClassLoader, SoftReference<List<ValidationProvider<?>>>> providersPerClassloader =
-				new WeakHashMap<>();
+		//keys only weakly reference their classloader to avoid memory leaks and allow proper hot redeployment
+		//the map is concurrent so that the read path does not need to acquire any monitor
+		private static final ConcurrentMap<ClassLoaderKey, SoftReference<List<ValidationProvider<?>>>> providersPerClassloader =
+				new ConcurrentHashMap<>();
+
+		//loads currently in progress; concurrent first callers for a classloader wait for the same load
+		private static final ConcurrentMap<ClassLoaderKey, CompletableFuture<List<ValidationProvider<?>>>> loadsInProgress =
+				new ConcurrentHashMap<>();
+
+		//classloaders known not to see any provider index
+		private static final Set<ClassLoaderKey> classloadersWithoutIndex = ConcurrentHashMap.newKeySet();
+
+		private static final ReferenceQueue<ClassLoader> collectedClassLoaders = new ReferenceQueue<>();
 
-		public static synchronized void clearCache() {
+		public static void clearCache() {
 			providersPerClassloader.clear();
+			classloadersWithoutIndex.clear();
 		}
 
 		@Override
 		public List<ValidationProvider<?>> getValidationProviders() {
 			// Option #1: try first context class loader
 			ClassLoader classloader = Thread.currentThread().getContextClassLoader();
-			List<ValidationProvider<?>> cachedContextClassLoaderProviderList = getCachedValidationProviders( classloader );
-			if ( cachedContextClassLoaderProviderList != null ) {
-				// if already processed return the cached provider list
-				return cachedContextClassLoaderProviderList;
-			}
-
-			List<ValidationProvider<?>> validationProviderList = loadProviders( classloader );
+			List<ValidationProvider<?>> validationProviderList = getOrLoadProviders( classloader, false );
 
 			// Option #2: if we cannot find any service files with the context class loader use the current class loader
 			if ( validationProviderList.isEmpty() ) {
 				classloader = DefaultValidationProviderResolver.class.getClassLoader();
-				List<ValidationProvider<?>> cachedCurrentClassLoaderProviderList = getCachedValidationProviders(
-						classloader
-				);
-				if ( cachedCurrentClassLoaderProviderList != null ) {
-					// if already processed return the cached provider list
-					return cachedCurrentClassLoaderProviderList;
+				validationProviderList = getOrLoadProviders( classloader, true );
+			}
+
+			return validationProviderList;
+		}
+
+		/**
+		 * Returns the providers cached for the given classloader or loads them. Only one thread loads the providers
+		 * of a given classloader at a time, other threads asking for the same classloader wait for its result.
+		 * <p>
+		 * The detected providers are cached against the classloader in which they were found; if no provider was
+		 * located, the empty list is only cached if {@code cacheIfEmpty} is {@code true}.
+		 */
+		private List<ValidationProvider<?>> getOrLoadProviders(ClassLoader classloader, boolean cacheIfEmpty) {
+			ClassLoaderKey key = ClassLoaderKey.of( classloader, null );
+			List<ValidationProvider<?>> cachedProviderList = getCachedValidationProviders( key );
+			if ( cachedProviderList != null ) {
+				// if already processed return the cached provider list
+				return cachedProviderList;
+			}
+
+			CompletableFuture<List<ValidationProvider<?>>> load = new CompletableFuture<>();
+			CompletableFuture<List<ValidationProvider<?>>> loadInProgress = loadsInProgress.putIfAbsent( key, load );
+			if ( loadInProgress != null ) {
+				return awaitLoad( loadInProgress );
+			}
+
+			try {
+				// the providers might have been cached while we were registering our load
+				List<ValidationProvider<?>> validationProviderList = getCachedValidationProviders( key );
+				if ( validationProviderList == null ) {
+					LazyValidationProviderList loadedProviderList = loadProviders( classloader );
+					if ( cacheIfEmpty || loadedProviderList.hasCandidates() ) {
+						cacheValidationProviders( classloader, loadedProviderList );
+					}
+					validationProviderList = loadedProviderList;
 				}
-				validationProviderList = loadProviders( classloader );
+				load.complete( validationProviderList );
+				return validationProviderList;
+			}
+			catch (RuntimeException | Error e) {
+				load.completeExceptionally( e );
+				throw e;
+			}
+			finally {
+				loadsInProgress.remove( key, load );
 			}
+		}
 
-			// cache the detected providers against the classloader in which they were found
-			cacheValidationProviders( classloader, validationProviderList );
+		private static List<ValidationProvider<?>> awaitLoad(CompletableFuture<List<ValidationProvider<?>>> load) {
+			try {
+				return load.join();
+			}
+			catch (CompletionException e) {
+				Throwable cause = e.getCause();
+				if ( cause instanceof RuntimeException ) {
+					throw (RuntimeException) cause;
+				}
+				if ( cause instanceof Error ) {
+					throw (Error) cause;
+				}
+				throw e;
+			}
+		}
 
-			return validationProviderList;
+		@Override
+		public ValidationProvider<?> getValidationProvider(String providerClassName) {
+			// look the provider up by type in the context class loader first, so that selecting it does not
+			// require instantiating another provider to decide whether the current class loader should be used
+			List<ValidationProvider<?>> contextClassLoaderProviderList = getOrLoadProviders(
+					Thread.currentThread().getContextClassLoader(),
+					false
+			);
+			if ( contextClassLoaderProviderList instanceof LazyValidationProviderList ) {
+				ValidationProvider<?> provider = ( (LazyValidationProviderList) contextClassLoaderProviderList )
+						.getByClassName( providerClassName );
+				if ( provider != null ) {
+					return provider;
+				}
+			}
+
+			List<ValidationProvider<?>> validationProviderList = getValidationProviders();
+			if ( validationProviderList instanceof LazyValidationProviderList ) {
+				return ( (LazyValidationProviderList) validationProviderList ).getByClassName( providerClassName );
+			}
+			return ValidationProviderResolver.super.getValidationProvider( providerClassName );
+		}
+
+		@SuppressWarnings("rawtypes")
+		private LazyValidationProviderList loadProviders(ClassLoader classloader) {
+			List<ServiceLoader.Provider<ValidationProvider>> indexedCandidates = loadIndexedProviders( classloader );
+			if ( indexedCandidates == null ) {
+				return new LazyValidationProviderList( scanProviders( classloader ), null );
+			}
+			// the service files are still scanned when the indexed providers do not suffice, so that a provider
+			// missing from the indexes is not hidden
+			return new LazyValidationProviderList( indexedCandidates, () -> scanProviders( classloader ) );
 		}
 
 		@SuppressWarnings("rawtypes")
-		private List<ValidationProvider<?>> loadProviders(ClassLoader classloader) {
+		private static List<ServiceLoader.Provider<ValidationProvider>> scanProviders(ClassLoader classloader) {
 			ServiceLoader<ValidationProvider> loader = ServiceLoader.load( ValidationProvider.class, classloader );
-			Iterator<ValidationProvider> providerIterator = loader.iterator();
-			List<ValidationProvider<?>> validationProviderList = new ArrayList<>();
-			while ( providerIterator.hasNext() ) {
+			// only locate the providers here, they get instantiated once they are actually requested
+			Iterator<ServiceLoader.Provider<ValidationProvider>> providerIterator = loader.stream().iterator();
+			List<ServiceLoader.Provider<ValidationProvider>> candidates = new ArrayList<>();
+			while ( true ) {
 				try {
-					validationProviderList.add( providerIterator.next() );
+					if ( !providerIterator.hasNext() ) {
+						break;
+					}
+					candidates.add( providerIterator.next() );
 				}
 				catch ( ServiceConfigurationError e ) {
 					// ignore, because it can happen when multiple
@@ -374,16 +947,334 @@ public final class Validation {
 					// compatible with our API.
 				}
 			}
-			return validationProviderList;
+			return candidates;
+		}
+
+		/**
+		 * Reads the provider indexes visible to the given classloader and merges them, in the order they are
+		 * returned by {@link ClassLoader#getResources(String)}; a provider listed by several indexes is only
+		 * considered once.
+		 *
+		 * @return the providers listed in the indexes or {@code null} if there is no index or if one cannot be read,
+		 *         in which case the service files have to be scanned
+		 */
+		@SuppressWarnings("rawtypes")
+		private List<ServiceLoader.Provider<ValidationProvider>> loadIndexedProviders(ClassLoader classloader) {
+			if ( classloadersWithoutIndex.contains( ClassLoaderKey.of( classloader, null ) ) ) {
+				return null;
+			}
+			ClassLoader indexClassLoader = classloader != null ? classloader : ClassLoader.getSystemClassLoader();
+			Set<String> providerClassNames = new LinkedHashSet<>();
+			try {
+				Enumeration<URL> indexes = indexClassLoader.getResources( PROVIDER_INDEX_RESOURCE );
+				if ( !indexes.hasMoreElements() ) {
+					expungeCollectedClassLoaders();
+					classloadersWithoutIndex.add( ClassLoaderKey.of( classloader, collectedClassLoaders ) );
+					return null;
+				}
+				while ( indexes.hasMoreElements() ) {
+					readIndex( indexes.nextElement(), providerClassNames );
+				}
+			}
+			catch ( IOException e ) {
+				return null;
+			}
+
+			List<ServiceLoader.Provider<ValidationProvider>> candidates = new ArrayList<>();
+			for ( String providerClassName : providerClassNames ) {
+				try {
+					Class<?> providerClass = Class.forName( providerClassName, false, indexClassLoader );
+					if ( ValidationProvider.class.isAssignableFrom( providerClass ) ) {
+						candidates.add( new IndexedProvider( providerClass.asSubclass( ValidationProvider.class ) ) );
+					}
+				}
+				catch ( ClassNotFoundException | LinkageError e ) {
+					// ignore, the same way as unknown providers listed in service files
+				}
+			}
+			return candidates;
+		}
+
+		private static void readIndex(URL index, Set<String> providerClassNames) throws IOException {
+			try ( BufferedReader reader = new BufferedReader( new InputStreamReader( index.openStream(), StandardCharsets.UTF_8 ) ) ) {
+				String line;
+				while ( ( line = reader.readLine() ) != null ) {
+					int commentStart = line.indexOf( '#' );
+					if ( commentStart >= 0 ) {
+						line = line.substring( 0, commentStart );
+					}
+					line = line.trim();
+					if ( !line.isEmpty() ) {
+						providerClassNames.add( line );
+					}
+				}
+			}
 		}
 
-		private synchronized List<ValidationProvider<?>> getCachedValidationProviders(ClassLoader classLoader) {
-			SoftReference<List<ValidationProvider<?>>> ref = providersPerClassloader.get( classLoader );
+		private List<ValidationProvider<?>> getCachedValidationProviders(ClassLoaderKey key) {
+			SoftReference<List<ValidationProvider<?>>> ref = providersPerClassloader.get( key );
 			return ref != null ? ref.get() : null;
 		}
 
-		private synchronized void cacheValidationProviders(ClassLoader classLoader, List<ValidationProvider<?>> providers) {
-			providersPerClassloader.put( classLoader, new SoftReference<>( providers ) );
+		private void cacheValidationProviders(ClassLoader classLoader, List<ValidationProvider<?>> providers) {
+			expungeCollectedClassLoaders();
+			providersPerClassloader.put( ClassLoaderKey.of( classLoader, collectedClassLoaders ), new SoftReference<>( providers ) );
+		}
+
+		private static void expungeCollectedClassLoaders() {
+			Reference<? extends ClassLoader> collected;
+			while ( ( collected = collectedClassLoaders.poll() ) != null ) {
+				providersPerClassloader.remove( collected );
+				classloadersWithoutIndex.remove( collected );
+			}
+		}
+
+		/**
+		 * Provider list instantiating the located providers only when they are accessed. Providers which cannot be
+		 * instantiated are ignored, as it can happen when multiple providers are present and some of them are not
+		 * class loader compatible with our API.
+		 * <p>
+		 * Accessing a given index instantiates the providers up to that index; {@link #size()} instantiates all of
+		 * them. {@link #isEmpty()}, {@link #iterator()} and {@link #getByClassName(String)} only instantiate what is
+		 * required to answer.
+		 * <p>
+		 * The candidates listed in the provider indexes may be followed by the candidates located by scanning the
+		 * service files, which are only located once the indexed candidates have all been considered.
+		 */
+		@SuppressWarnings("rawtypes")
+		private static final class LazyValidationProviderList extends AbstractList<ValidationProvider<?>> {
+
+			private static final Object NOT_INSTANTIABLE = new Object();
+
+			//both replaced under the instantiation lock once the remaining candidates are located
+			private volatile List<ServiceLoader.Provider<ValidationProvider>> candidates;
+
+			//per candidate: null if not instantiated yet, the provider instance or NOT_INSTANTIABLE
+			private volatile AtomicReferenceArray<Object> instances;
+
+			//locates the candidates following the current ones; guarded by instantiationLock, null once done
+			private Supplier<List<ServiceLoader.Provider<ValidationProvider>>> remainingCandidates;
+
+			private volatile boolean remainingCandidatesLocated;
+
+			private final Lock instantiationLock = new ReentrantLock();
+
+			private LazyValidationProviderList(List<ServiceLoader.Provider<ValidationProvider>> candidates,
+					Supplier<List<ServiceLoader.Provider<ValidationProvider>>> remainingCandidates) {
+				this.candidates = candidates;
+				this.instances = new AtomicReferenceArray<>( candidates.size() );
+				this.remainingCandidates = remainingCandidates;
+				this.remainingCandidatesLocated = remainingCandidates == null;
+			}
+
+			private boolean hasCandidates() {
+				return hasCandidate( 0 );
+			}
+
+			/**
+			 * Returns whether there is a candidate at the given index, locating the remaining candidates if needed.
+			 */
+			private boolean hasCandidate(int candidateIndex) {
+				if ( candidateIndex < candidates.size() ) {
+					return true;
+				}
+				if ( !remainingCandidatesLocated ) {
+					locateRemainingCandidates();
+				}
+				return candidateIndex < candidates.size();
+			}
+
+			private void locateRemainingCandidates() {
+				instantiationLock.lock();
+				try {
+					if ( remainingCandidatesLocated ) {
+						return;
+					}
+					List<ServiceLoader.Provider<ValidationProvider>> allCandidates = new ArrayList<>( candidates );
+					Set<Class<?>> types = new HashSet<>();
+					for ( ServiceLoader.Provider<ValidationProvider> candidate : candidates ) {
+						types.add( candidate.type() );
+					}
+					for ( ServiceLoader.Provider<ValidationProvider> candidate : remainingCandidates.get() ) {
+						if ( types.add( candidate.type() ) ) {
+							allCandidates.add( candidate );
+						}
+					}
+					AtomicReferenceArray<Object> allInstances = new AtomicReferenceArray<>( allCandidates.size() );
+					for ( int candidateIndex = 0; candidateIndex < candidates.size(); candidateIndex++ ) {
+						allInstances.set( candidateIndex, instances.get( candidateIndex ) );
+					}
+					instances = allInstances;
+					candidates = allCandidates;
+					remainingCandidates = null;
+					remainingCandidatesLocated = true;
+				}
+				finally {
+					instantiationLock.unlock();
+				}
+			}
+
+			@Override
+			public ValidationProvider<?> get(int index) {
+				if ( index < 0 ) {
+					throw new IndexOutOfBoundsException( index );
+				}
+				int i = 0;
+				for ( int candidateIndex = 0; hasCandidate( candidateIndex ); candidateIndex++ ) {
+					ValidationProvider<?> provider = instantiate( candidateIndex );
+					if ( provider != null ) {
+						if ( i == index ) {
+							return provider;
+						}
+						i++;
+					}
+				}
+				throw new IndexOutOfBoundsException( "Index " + index + " is out of bounds for list of size " + i );
+			}
+
+			@Override
+			public int size() {
+				int size = 0;
+				for ( int candidateIndex = 0; hasCandidate( candidateIndex ); candidateIndex++ ) {
+					if ( instantiate( candidateIndex ) != null ) {
+						size++;
+					}
+				}
+				return size;
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return !iterator().hasNext();
+			}
+
+			@Override
+			public Iterator<ValidationProvider<?>> iterator() {
+				return new Iterator<ValidationProvider<?>>() {
+
+					private int candidateIndex = 0;
+					private ValidationProvider<?> next;
+
+					@Override
+					public boolean hasNext() {
+						while ( next == null && hasCandidate( candidateIndex ) ) {
+							next = instantiate( candidateIndex++ );
+						}
+						return next != null;
+					}
+
+					@Override
+					public ValidationProvider<?> next() {
+						if ( !hasNext() ) {
+							throw new NoSuchElementException();
+						}
+						ValidationProvider<?> provider = next;
+						next = null;
+						return provider;
+					}
+				};
+			}
+
+			private ValidationProvider<?> getByClassName(String providerClassName) {
+				for ( int candidateIndex = 0; hasCandidate( candidateIndex ); candidateIndex++ ) {
+					if ( candidates.get( candidateIndex ).type().getName().equals( providerClassName ) ) {
+						return instantiate( candidateIndex );
+					}
+				}
+				return null;
+			}
+
+			private ValidationProvider<?> instantiate(int candidateIndex) {
+				Object instance = instances.get( candidateIndex );
+				if ( instance == null ) {
+					instantiationLock.lock();
+					try {
+						AtomicReferenceArray<Object> currentInstances = instances;
+						instance = currentInstances.get( candidateIndex );
+						if ( instance == null ) {
+							try {
+								instance = candidates.get( candidateIndex ).get();
+							}
+							catch ( ServiceConfigurationError e ) {
+								instance = NOT_INSTANTIABLE;
+							}
+							currentInstances.set( candidateIndex, instance );
+						}
+					}
+					finally {
+						instantiationLock.unlock();
+					}
+				}
+				return instance == NOT_INSTANTIABLE ? null : (ValidationProvider<?>) instance;
+			}
+		}
+
+		/**
+		 * A provider listed in the provider index, instantiated through its public no-arg constructor like providers
+		 * located by the {@link ServiceLoader}.
+		 */
+		@SuppressWarnings("rawtypes")
+		private static final class IndexedProvider implements ServiceLoader.Provider<ValidationProvider> {
+
+			private final Class<? extends ValidationProvider> type;
+
+			private IndexedProvider(Class<? extends ValidationProvider> type) {
+				this.type = type;
+			}
+
+			@Override
+			public Class<? extends ValidationProvider> type() {
+				return type;
+			}
+
+			@Override
+			public ValidationProvider get() {
+				try {
+					return type.getConstructor().newInstance();
+				}
+				catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+					throw new ServiceConfigurationError( ValidationProvider.class.getName() + ": Provider " + type.getName()
+							+ " could not be instantiated", e );
+				}
+			}
+		}
+
+		/**
+		 * Weakly references a classloader and compares by identity of the referenced classloader; the {@code null}
+		 * classloader is represented by a dedicated key. A key whose classloader has been collected is only equal to
+		 * itself so that it can be removed from the cache once it is enqueued.
+		 */
+		private static final class ClassLoaderKey extends WeakReference<ClassLoader> {
+
+			private static final ClassLoaderKey NULL_CLASSLOADER = new ClassLoaderKey( null, null );
+
+			private final int hashCode;
+
+			private ClassLoaderKey(ClassLoader classLoader, ReferenceQueue<ClassLoader> queue) {
+				super( classLoader, queue );
+				this.hashCode = System.identityHashCode( classLoader );
+			}
+
+			static ClassLoaderKey of(ClassLoader classLoader, ReferenceQueue<ClassLoader> queue) {
+				return classLoader == null ? NULL_CLASSLOADER : new ClassLoaderKey( classLoader, queue );
+			}
+
+			@Override
+			public boolean equals(Object o) {
+				if ( this == o ) {
+					return true;
+				}
+				if ( !( o instanceof ClassLoaderKey ) ) {
+					return false;
+				}
+				ClassLoader classLoader = get();
+				return classLoader != null && classLoader == ( (ClassLoaderKey) o ).get();
+			}
+
+			@Override
+			public int hashCode() {
+				return hashCode;
+			}
 		}
 	}
 }
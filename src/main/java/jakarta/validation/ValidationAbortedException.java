@@ -0,0 +1,88 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+import java.io.Serial;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Reports that a validation call was aborted before all constraints had been evaluated,
+ * because its deadline was exceeded (see {@link ValidatorContext#deadline(java.time.Duration)})
+ * or because it was cancelled (see {@link ValidatorContext#cancellationToken(CancellationToken)}).
+ * <p>
+ * The exception carries the constraint violations found before validation was aborted;
+ * more constraints might be violated.
+ *
+ * @since 4.0
+ */
+public class ValidationAbortedException extends ValidationException {
+
+	@Serial
+	private static final long serialVersionUID = 4183745312064736482L;
+
+	/**
+	 * The reason why a validation call was aborted.
+	 *
+	 * @since 4.0
+	 */
+	public enum Reason {
+
+		/**
+		 * The deadline of the validation call was exceeded.
+		 */
+		DEADLINE_EXCEEDED,
+
+		/**
+		 * The validation call was cancelled.
+		 */
+		CANCELLED
+	}
+
+	private final Reason reason;
+
+	private final HashSet<ConstraintViolation<?>> partialConstraintViolations;
+
+	/**
+	 * Creates an exception reporting an aborted validation call.
+	 *
+	 * @param message error message
+	 * @param reason the reason why validation was aborted
+	 * @param partialConstraintViolations the {@link ConstraintViolation}s found before
+	 *        validation was aborted or null
+	 */
+	public ValidationAbortedException(String message, Reason reason,
+									  Set<? extends ConstraintViolation<?>> partialConstraintViolations) {
+		super( message );
+		this.reason = reason;
+
+		if ( partialConstraintViolations == null ) {
+			this.partialConstraintViolations = null;
+		}
+		else {
+			this.partialConstraintViolations = new HashSet<>( partialConstraintViolations );
+		}
+	}
+
+	/**
+	 * Returns the reason why validation was aborted.
+	 *
+	 * @return the reason
+	 */
+	public Reason getReason() {
+		return reason;
+	}
+
+	/**
+	 * Returns the constraint violations found before validation was aborted.
+	 *
+	 * @return the {@code Set} of {@link ConstraintViolation}s or null
+	 */
+	public Set<ConstraintViolation<?>> getPartialConstraintViolations() {
+		return partialConstraintViolations;
+	}
+}
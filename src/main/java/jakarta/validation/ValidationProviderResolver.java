@@ -21,6 +21,18 @@ import jakarta.validation.spi.ValidationProvider;
  * Each {@code META-INF/services/jakarta.validation.spi.ValidationProvider} file contains the
  * list of {@link ValidationProvider} implementations each of them representing a provider.
  * <p>
+ * Alternatively, an application may be packaged with a provider index, typically generated
+ * at build time, to spare the default resolver the scanning of all the service files.
+ * An index is a {@code META-INF/validation-providers.idx} UTF-8 resource listing one
+ * provider per line, as the fully qualified name of the {@code ValidationProvider}
+ * implementation. Blank lines and characters following {@code #} are ignored. If indexes
+ * are visible to a class loader, the default resolver considers the providers they list
+ * first, in the order of {@link ClassLoader#getResources(String)} and ignoring duplicates.
+ * It only scans the service files of that class loader once the indexed providers do not
+ * suffice, e.g. if none of them can be loaded, if a provider which is not indexed is
+ * requested by class name or if all the providers are requested; the providers declared
+ * in service files only then follow the indexed ones.
+ * <p>
  * Implementations must be thread-safe.
  *
  * @author Emmanuel Bernard
@@ -33,4 +45,30 @@ public interface ValidationProviderResolver {
 	 * @return list of validation providers
 	 */
 	List<ValidationProvider<?>> getValidationProviders();
+
+	/**
+	 * Returns the {@link ValidationProvider} available in the runtime environment
+	 * whose implementation class has the given fully qualified name.
+	 * <p>
+	 * {@link Configuration} implementations should use this method to select the
+	 * provider specified in {@code META-INF/validation.xml} (see
+	 * {@link BootstrapConfiguration#getDefaultProviderClassName()}), as it allows
+	 * resolvers to avoid instantiating the other available providers.
+	 *
+	 * @param providerClassName the fully qualified name of the provider implementation class
+	 * @return the validation provider or {@code null} if no such provider is available
+	 *
+	 * @implNote The default implementation iterates through the list returned by
+	 *          {@link #getValidationProviders()}. Implementations may override this method
+	 *          for better performance.
+	 * @since 4.0
+	 */
+	default ValidationProvider<?> getValidationProvider(String providerClassName) {
+		for ( ValidationProvider<?> provider : getValidationProviders() ) {
+			if ( provider.getClass().getName().equals( providerClassName ) ) {
+				return provider;
+			}
+		}
+		return null;
+	}
 }
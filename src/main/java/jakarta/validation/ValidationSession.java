@@ -0,0 +1,123 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validates the property values of a bean as they are pushed one by one, typically by a
+ * streaming parser decoding the bean, before the bean is built.
+ * <p>
+ * Sessions are obtained from {@link Validator#openSession(Class, boolean, Class[])}. The
+ * parser pushes each property value with {@link #property(String, Object)}; the
+ * properties of a nested bean are pushed between {@link #beginBean(String, Class)} and
+ * {@link #endBean()}. The property-level constraints of each property are validated as
+ * soon as its value is pushed. Class-level constraints, and the constraints of the elements
+ * of container values, are not validated by a session.
+ * <p>
+ * If the session is opened to abort on the first constraint violation, the methods pushing
+ * events return {@code false} as soon as a constraint violation has been found, telling
+ * the parser it may stop decoding; further events are ignored.
+ * <p>
+ * Sessions are not thread-safe.
+ *
+ * @param <T> the type of the root bean
+ *
+ * @since 4.0
+ */
+public interface ValidationSession<T> {
+
+	/**
+	 * Returns the type of the root bean of this session.
+	 *
+	 * @return the root bean type
+	 */
+	Class<T> getBeanClass();
+
+	/**
+	 * Validates the constraints placed on the property named {@code propertyName} of the
+	 * current bean, i.e. the innermost nested bean begun and not ended, or the root bean,
+	 * would the property value be {@code value}.
+	 *
+	 * @param propertyName the property name
+	 * @param value the property value
+	 * @return {@code false} if the session is aborted, {@code true} otherwise
+	 * @throws IllegalArgumentException if {@code propertyName} is {@code null}, empty
+	 *         or not a valid property of the current bean
+	 * @throws ValidationException if a non recoverable error happens
+	 *         during the validation process
+	 */
+	boolean property(String propertyName, Object value);
+
+	/**
+	 * Begins a nested bean, the value of the property named {@code propertyName} of the
+	 * current bean; the following property values are the ones of the nested bean, until
+	 * {@link #endBean()} is invoked.
+	 * <p>
+	 * The path of the nested bean is the path of the current bean followed by
+	 * {@code propertyName}, separated by a dot unless the current bean is the root bean
+	 * (e.g. {@code address} then {@code address.geo}); the constraint violations of its
+	 * properties are reported under this path by {@link #getViolationsByBeanPath()}.
+	 *
+	 * @param propertyName the name of the property hosting the nested bean, used as is in
+	 *        the path of the nested bean (e.g. {@code addresses[0]} for an element of a
+	 *        list)
+	 * @param beanType the type of the nested bean
+	 * @return {@code false} if the session is aborted, {@code true} otherwise
+	 * @throws IllegalArgumentException if {@code propertyName} or {@code beanType} is
+	 *         {@code null}
+	 */
+	boolean beginBean(String propertyName, Class<?> beanType);
+
+	/**
+	 * Ends the current nested bean; the following property values are the ones of the
+	 * enclosing bean.
+	 *
+	 * @return {@code false} if the session is aborted, {@code true} otherwise
+	 * @throws IllegalStateException if no nested bean is begun
+	 */
+	boolean endBean();
+
+	/**
+	 * Returns whether this session is aborted because a constraint violation was found and
+	 * the session was opened to abort on the first constraint violation.
+	 *
+	 * @return {@code true} if the session is aborted
+	 */
+	boolean isAborted();
+
+	/**
+	 * Returns the constraint violations found so far.
+	 * <p>
+	 * The constraint violations are the ones which
+	 * {@link Validator#validateValue(Class, String, Object, Class[])} would return for the
+	 * bean hosting the property: for the properties of a nested bean, the root bean class is
+	 * the type of the nested bean and the property path is relative to the nested bean.
+	 * Equal constraint violations of different nested beans are thus all reported, but cannot
+	 * be told apart; use {@link #getViolationsByBeanPath()} to do so.
+	 *
+	 * @return constraint violations, in the order they were found, or an empty list if none
+	 * @see #getViolationsByBeanPath()
+	 */
+	List<ConstraintViolation<?>> getViolations();
+
+	/**
+	 * Returns the constraint violations found so far, by path of the bean hosting the
+	 * violating property (see {@link #beginBean(String, Class)}), the path of the root bean
+	 * being the empty string.
+	 * <p>
+	 * As the property path of a constraint violation of a nested bean is relative to the
+	 * nested bean, the full path of the violating property is the bean path followed by the
+	 * property path, e.g. {@code address.city}.
+	 *
+	 * @return the constraint violations by bean path, in the order the beans were begun, or
+	 *         an empty map if none
+	 */
+	Map<String, Set<ConstraintViolation<?>>> getViolationsByBeanPath();
+}
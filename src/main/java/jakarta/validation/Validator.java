@@ -6,12 +6,27 @@
  */
 package jakarta.validation;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import jakarta.validation.executable.ExecutableValidator;
 import jakarta.validation.groups.Default;
 import jakarta.validation.metadata.BeanDescriptor;
 import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
 
 /**
  * Validates bean instances. Implementations of this interface must be thread-safe.
@@ -37,6 +52,256 @@ public interface Validator {
 	 */
 	<T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups);
 
+	/**
+	 * Validates all constraints on {@code object}, pushing each constraint violation to
+	 * {@code sink} as soon as it is found.
+	 * <p>
+	 * Unlike {@link #validate(Object, Class[])}, the constraint violations are not collected
+	 * into a {@code Set}, so the provider does not need to compare them with each other.
+	 * The same constraint violation is not pushed twice. Validation stops as soon as
+	 * {@code sink} requests it.
+	 *
+	 * @param object object to validate
+	 * @param sink the sink receiving the constraint violations
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @param <T> the type of the object to validate
+	 * @throws IllegalArgumentException if object or sink is {@code null}
+	 *         or if {@code null} is passed to the varargs groups
+	 * @throws ValidationException if a non recoverable error happens
+	 *         during the validation process
+	 *
+	 * @implNote The default implementation pushes the constraint violations returned by
+	 *          {@link #validate(Object, Class[])}. Implementations should override this
+	 *          method for better performance.
+	 * @since 4.0
+	 */
+	default <T> void validate(T object, ViolationSink<? super T> sink, Class<?>... groups) {
+		if ( sink == null ) {
+			throw new IllegalArgumentException( "The violation sink must not be null." );
+		}
+		for ( ConstraintViolation<T> violation : validate( object, groups ) ) {
+			if ( !sink.accept( violation ) ) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Returns whether all constraints on {@code object} are satisfied.
+	 * <p>
+	 * The result is the same as {@code validate( object, groups ).isEmpty()}, but as no
+	 * {@link ConstraintViolation} is returned, the provider may stop validating as soon
+	 * as a constraint is not satisfied and skip message interpolation and the creation
+	 * of property paths altogether.
+	 *
+	 * @param object object to validate
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @param <T> the type of the object to validate
+	 * @return {@code true} if no constraint is violated, {@code false} otherwise
+	 * @throws IllegalArgumentException if object is {@code null}
+	 *         or if {@code null} is passed to the varargs groups
+	 * @throws ValidationException if a non recoverable error happens
+	 *         during the validation process
+	 *
+	 * @implNote The default implementation delegates to {@link #validate(Object, Class[])}.
+	 *          Implementations should override this method for better performance.
+	 * @since 4.0
+	 */
+	default <T> boolean isValid(T object, Class<?>... groups) {
+		return validate( object, groups ).isEmpty();
+	}
+
+	/**
+	 * Validates all constraints on {@code object}, evaluating the constraints validated by
+	 * {@link AsyncConstraintValidator}s asynchronously.
+	 * <p>
+	 * The result is the same as the one of {@link #validate(Object, Class[])}, but the
+	 * provider may start the evaluation of all the asynchronous constraints which do not
+	 * depend on each other, e.g. the constraints of a group, before joining them, so that
+	 * the latency of validating a bean with several asynchronous constraints is the one of
+	 * the slowest constraint rather than their sum.
+	 *
+	 * @param object object to validate
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @param <T> the type of the object to validate
+	 * @return a stage completed with the constraint violations or an empty set if none, or
+	 *         completed exceptionally with a {@link ValidationException} if a non recoverable
+	 *         error happens during the validation process
+	 * @throws IllegalArgumentException if object is {@code null}
+	 *         or if {@code null} is passed to the varargs groups
+	 *
+	 * @implNote The default implementation delegates to {@link #validate(Object, Class[])},
+	 *          the asynchronous constraints being evaluated one after the other by the
+	 *          calling thread. Implementations should override this method for better
+	 *          performance.
+	 * @since 4.0
+	 */
+	default <T> CompletionStage<Set<ConstraintViolation<T>>> validateAsync(T object, Class<?>... groups) {
+		Set<ConstraintViolation<T>> violations;
+		try {
+			violations = validate( object, groups );
+		}
+		catch (ValidationException e) {
+			return CompletableFuture.failedFuture( e );
+		}
+		return CompletableFuture.completedFuture( violations );
+	}
+
+	/**
+	 * Validates all constraints on each object of {@code objects}.
+	 * <p>
+	 * The result is the same as validating each object in turn with
+	 * {@link #validate(Object, Class[])}, but the provider may resolve the groups and look up
+	 * the metadata once for the whole batch.
+	 *
+	 * @param objects objects to validate
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @param <T> the type of the objects to validate
+	 * @return the constraint violations of each object, by index in the iteration order
+	 *         of {@code objects}
+	 * @throws IllegalArgumentException if {@code objects} is {@code null}, contains
+	 *         {@code null} or if {@code null} is passed to the varargs groups
+	 * @throws ValidationException if a non recoverable error happens
+	 *         during the validation process
+	 *
+	 * @implNote The default implementation delegates to {@link #validate(Object, Class[])}
+	 *          for each object. Implementations should override this method for better
+	 *          performance.
+	 * @since 4.0
+	 */
+	default <T> BatchValidationResult<T> validateAll(Iterable<? extends T> objects, Class<?>... groups) {
+		if ( objects == null ) {
+			throw new IllegalArgumentException( "The objects to validate must not be null." );
+		}
+		BatchValidationResult.Builder<T> result = BatchValidationResult.builder();
+		for ( T object : objects ) {
+			result.add( validate( object, groups ) );
+		}
+		return result.build();
+	}
+
+	/**
+	 * Validates all constraints on each object of {@code objects} concurrently, using the
+	 * given {@link Executor}.
+	 * <p>
+	 * {@code objects} is split into chunks of {@code chunkSize} consecutive objects, which
+	 * are validated by tasks submitted to {@code executor}. The results of the chunks are
+	 * merged in input order, so the result is the same as the one of
+	 * {@link #validateAll(Iterable, Class[])}.
+	 * <p>
+	 * {@code objects} must not be modified until the returned stage has completed.
+	 *
+	 * @param objects objects to validate
+	 * @param executor the executor running the validation of the chunks
+	 * @param chunkSize the number of objects validated by each task
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @param <T> the type of the objects to validate
+	 * @return a stage completed with the constraint violations of each object, by index in
+	 *         {@code objects}, or completed exceptionally if the validation of a chunk fails
+	 * @throws IllegalArgumentException if {@code objects} or {@code executor} is
+	 *         {@code null} or if {@code chunkSize} is lower than 1
+	 *
+	 * @implNote The default implementation invokes
+	 *          {@link #validateAll(Iterable, Class[])} for each chunk.
+	 * @since 4.0
+	 */
+	default <T> CompletionStage<BatchValidationResult<T>> validateAll(List<? extends T> objects, Executor executor, int chunkSize,
+			Class<?>... groups) {
+		if ( objects == null ) {
+			throw new IllegalArgumentException( "The objects to validate must not be null." );
+		}
+		if ( executor == null ) {
+			throw new IllegalArgumentException( "The executor must not be null." );
+		}
+		if ( chunkSize < 1 ) {
+			throw new IllegalArgumentException( "The chunk size must be greater than 0, but was " + chunkSize + "." );
+		}
+
+		int size = objects.size();
+		List<CompletableFuture<BatchValidationResult<T>>> chunks = new ArrayList<>( ( size + chunkSize - 1 ) / chunkSize );
+		for ( int from = 0; from < size; from += chunkSize ) {
+			List<? extends T> chunk = objects.subList( from, Math.min( size, from + chunkSize ) );
+			chunks.add( CompletableFuture.supplyAsync( () -> this.<T>validateAll( chunk, groups ), executor ) );
+		}
+
+		return CompletableFuture.allOf( chunks.toArray( new CompletableFuture<?>[0] ) )
+				.thenApply( ignored -> {
+					BatchValidationResult.Builder<T> result = BatchValidationResult.builder();
+					for ( CompletableFuture<BatchValidationResult<T>> chunk : chunks ) {
+						result.addAll( chunk.join() );
+					}
+					return result.build();
+				} );
+	}
+
+	/**
+	 * Prepares the validation of the instances of {@code beanType} against the given groups.
+	 * <p>
+	 * The returned plan can be used to validate any number of instances, from any thread;
+	 * it is meant to be compiled once and reused in hot code paths.
+	 *
+	 * @param beanType the bean type
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @param <T> the bean type
+	 * @return the validation plan
+	 * @throws IllegalArgumentException if {@code beanType} is {@code null}
+	 *         or if {@code null} is passed to the varargs groups
+	 * @throws ValidationException if a non recoverable error happens
+	 *         during the metadata discovery or if some
+	 *         constraints are invalid.
+	 *
+	 * @implNote The default implementation returns a plan delegating to
+	 *          {@link #validate(Object, Class[])} and {@link #isValid(Object, Class[])}.
+	 *          Implementations should override this method for better performance.
+	 * @since 4.0
+	 */
+	default <T> BeanValidationPlan<T> compile(Class<T> beanType, Class<?>... groups) {
+		if ( beanType == null ) {
+			throw new IllegalArgumentException( "The bean type must not be null." );
+		}
+		if ( groups == null || Arrays.asList( groups ).contains( null ) ) {
+			throw new IllegalArgumentException( "The groups must not be null." );
+		}
+		Class<?>[] validatedGroups = groups.clone();
+		List<Class<?>> planGroups = List.of( validatedGroups );
+
+		return new BeanValidationPlan<T>() {
+
+			@Override
+			public Class<T> getBeanClass() {
+				return beanType;
+			}
+
+			@Override
+			public List<Class<?>> getGroups() {
+				return planGroups;
+			}
+
+			@Override
+			public Set<ConstraintViolation<T>> validate(T object) {
+				return Validator.this.validate( checkInstance( object ), validatedGroups );
+			}
+
+			@Override
+			public boolean isValid(T object) {
+				return Validator.this.isValid( checkInstance( object ), validatedGroups );
+			}
+
+			private T checkInstance(T object) {
+				if ( !beanType.isInstance( object ) ) {
+					throw new IllegalArgumentException( "The object to validate must be an instance of " + beanType.getName() + "." );
+				}
+				return object;
+			}
+		};
+	}
+
 	/**
 	 * Validates all constraints placed on the property of {@code object}
 	 * named {@code propertyName}.
@@ -57,6 +322,95 @@ public interface Validator {
 													 String propertyName,
 													 Class<?>... groups);
 
+	/**
+	 * Validates all constraints placed on the properties of {@code object} named
+	 * {@code propertyNames}, e.g. the properties modified by a partial update.
+	 * <p>
+	 * The result is the same as the union of the results of
+	 * {@link #validateProperty(Object, String, Class[])} for each property, but the provider
+	 * may validate all the properties in a single pass.
+	 *
+	 * @param object object to validate
+	 * @param propertyNames properties to validate (i.e. field and getter constraints)
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @param <T> the type of the object to validate
+	 * @return constraint violations or an empty set if none
+	 * @throws IllegalArgumentException if {@code object} or {@code propertyNames} is
+	 *         {@code null}, if one of {@code propertyNames} is {@code null}, empty or not
+	 *         a valid object property or if {@code null} is passed to the varargs groups
+	 * @throws ValidationException if a non recoverable error happens
+	 *         during the validation process
+	 *
+	 * @implNote The default implementation delegates to
+	 *          {@link #validateProperties(Object, Set, boolean, Class[])}.
+	 * @since 4.0
+	 */
+	default <T> Set<ConstraintViolation<T>> validateProperties(T object, Set<String> propertyNames, Class<?>... groups) {
+		return validateProperties( object, propertyNames, false, groups );
+	}
+
+	/**
+	 * Validates all constraints placed on the properties of {@code object} named
+	 * {@code propertyNames} and, if requested, the class-level constraints of
+	 * {@code object}.
+	 * <p>
+	 * The class-level constraints validated are the ones placed on the class of
+	 * {@code object}, as returned by {@link BeanDescriptor#getConstraintDescriptors()}; the
+	 * class-level constraints of cascaded beans are not validated.
+	 *
+	 * @param object object to validate
+	 * @param propertyNames properties to validate (i.e. field and getter constraints)
+	 * @param validateClassLevelConstraints whether the class-level constraints of
+	 *        {@code object} are validated too
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @param <T> the type of the object to validate
+	 * @return constraint violations or an empty set if none
+	 * @throws IllegalArgumentException if {@code object} or {@code propertyNames} is
+	 *         {@code null}, if one of {@code propertyNames} is {@code null}, empty or not
+	 *         a valid object property or if {@code null} is passed to the varargs groups
+	 * @throws ValidationException if a non recoverable error happens
+	 *         during the validation process
+	 *
+	 * @implNote The default implementation delegates to
+	 *          {@link #validateProperty(Object, String, Class[])} for each property. If the
+	 *          class of {@code object} has class-level constraints, it validates them by
+	 *          validating the whole object with {@link #validate(Object, Class[])} and
+	 *          keeping the constraint violations reported on the object itself. When a
+	 *          {@link GroupSequence} is validated, the class-level constraints of a group of
+	 *          the sequence are therefore only validated if no constraint of the whole
+	 *          object, including the properties which are not in {@code propertyNames},
+	 *          failed in an earlier group. Implementations should override this method for
+	 *          better performance.
+	 * @since 4.0
+	 */
+	default <T> Set<ConstraintViolation<T>> validateProperties(T object, Set<String> propertyNames, boolean validateClassLevelConstraints,
+			Class<?>... groups) {
+		if ( object == null ) {
+			throw new IllegalArgumentException( "The object to validate must not be null." );
+		}
+		if ( propertyNames == null ) {
+			throw new IllegalArgumentException( "The property names must not be null." );
+		}
+		if ( groups == null || Arrays.asList( groups ).contains( null ) ) {
+			throw new IllegalArgumentException( "The groups must not be null." );
+		}
+		Set<ConstraintViolation<T>> violations = new HashSet<>();
+		for ( String propertyName : propertyNames ) {
+			violations.addAll( validateProperty( object, propertyName, groups ) );
+		}
+		if ( validateClassLevelConstraints && !getConstraintsForClass( object.getClass() ).getConstraintDescriptors().isEmpty() ) {
+			for ( ConstraintViolation<T> violation : validate( object, groups ) ) {
+				Iterator<Path.Node> nodes = violation.getPropertyPath().iterator();
+				if ( nodes.hasNext() && nodes.next().getKind() == ElementKind.BEAN && !nodes.hasNext() ) {
+					violations.add( violation );
+				}
+			}
+		}
+		return violations;
+	}
+
 	/**
 	 * Validates all constraints placed on the property named {@code propertyName}
 	 * of the class {@code beanType} would the property value be {@code value}.
@@ -83,6 +437,263 @@ public interface Validator {
 												  Object value,
 												  Class<?>... groups);
 
+	/**
+	 * Validates all constraints placed on the properties of the class {@code beanType}
+	 * named by the keys of {@code values}, would the property values be the values of
+	 * {@code values}, e.g. to reject an invalid payload before binding it to a bean.
+	 * <p>
+	 * The result is the same as the union of the results of
+	 * {@link #validateValue(Class, String, Object, Class[])} for each entry, but the
+	 * provider may validate all the values in a single pass.
+	 * <p>
+	 * {@link ConstraintViolation} objects return {@code null} for
+	 * {@link ConstraintViolation#getRootBean()} and
+	 * {@link ConstraintViolation#getLeafBean()}.
+	 *
+	 * @param beanType the bean type
+	 * @param values property values to validate, by property name; a {@code null} value
+	 *        is validated as a {@code null} property value
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @param <T> the type of the object to validate
+	 * @return constraint violations or an empty set if none
+	 * @throws IllegalArgumentException if {@code beanType} or {@code values} is
+	 *         {@code null}, if one of the property names is {@code null}, empty or not a
+	 *         valid object property or if {@code null} is passed to the varargs groups
+	 * @throws ValidationException if a non recoverable error happens
+	 *         during the validation process
+	 *
+	 * @implNote The default implementation delegates to
+	 *          {@link #validateValue(Class, String, Object, Class[])} for each entry.
+	 *          Implementations should override this method for better performance.
+	 * @since 4.0
+	 */
+	default <T> Set<ConstraintViolation<T>> validateValues(Class<T> beanType, Map<String, ?> values, Class<?>... groups) {
+		if ( beanType == null ) {
+			throw new IllegalArgumentException( "The bean type must not be null." );
+		}
+		if ( values == null ) {
+			throw new IllegalArgumentException( "The property values must not be null." );
+		}
+		if ( groups == null || Arrays.asList( groups ).contains( null ) ) {
+			throw new IllegalArgumentException( "The groups must not be null." );
+		}
+		Set<ConstraintViolation<T>> violations = new HashSet<>();
+		for ( Map.Entry<String, ?> value : values.entrySet() ) {
+			violations.addAll( validateValue( beanType, value.getKey(), value.getValue(), groups ) );
+		}
+		return violations;
+	}
+
+	/**
+	 * Opens a session validating the property values of a bean of type {@code beanType}
+	 * as they are pushed one by one, e.g. by a streaming parser, before the bean is built.
+	 *
+	 * @param beanType the type of the root bean
+	 * @param abortOnFirstViolation whether the session is aborted as soon as a constraint
+	 *        violation is found
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @param <T> the type of the root bean
+	 * @return the session
+	 * @throws IllegalArgumentException if {@code beanType} is {@code null}
+	 *         or if {@code null} is passed to the varargs groups
+	 *
+	 * @implNote The default implementation returns a session delegating to
+	 *          {@link #validateValue(Class, String, Object, Class[])} for each property
+	 *          value. Implementations should override this method for better performance.
+	 * @since 4.0
+	 */
+	default <T> ValidationSession<T> openSession(Class<T> beanType, boolean abortOnFirstViolation, Class<?>... groups) {
+		if ( beanType == null ) {
+			throw new IllegalArgumentException( "The bean type must not be null." );
+		}
+		if ( groups == null || Arrays.asList( groups ).contains( null ) ) {
+			throw new IllegalArgumentException( "The groups must not be null." );
+		}
+		Class<?>[] validatedGroups = groups.clone();
+
+		return new ValidationSession<T>() {
+
+			//types and paths of the nested beans begun and not ended, innermost first
+			private final Deque<Class<?>> nestedBeanTypes = new ArrayDeque<>();
+			private final Deque<String> nestedBeanPaths = new ArrayDeque<>();
+
+			private final List<ConstraintViolation<?>> violations = new ArrayList<>();
+			private final Map<String, Set<ConstraintViolation<?>>> violationsByBeanPath = new LinkedHashMap<>();
+
+			private boolean aborted;
+
+			@Override
+			public Class<T> getBeanClass() {
+				return beanType;
+			}
+
+			@Override
+			public boolean property(String propertyName, Object value) {
+				if ( aborted ) {
+					return false;
+				}
+				Class<?> currentBeanType = nestedBeanTypes.isEmpty() ? beanType : nestedBeanTypes.peek();
+				Set<? extends ConstraintViolation<?>> propertyViolations = Validator.this.validateValue( currentBeanType, propertyName, value, validatedGroups );
+				if ( !propertyViolations.isEmpty() ) {
+					violations.addAll( propertyViolations );
+					violationsByBeanPath.computeIfAbsent( nestedBeanPaths.isEmpty() ? "" : nestedBeanPaths.peek(), path -> new LinkedHashSet<>() )
+							.addAll( propertyViolations );
+					aborted = abortOnFirstViolation;
+				}
+				return !aborted;
+			}
+
+			@Override
+			public boolean beginBean(String propertyName, Class<?> nestedBeanType) {
+				if ( propertyName == null || nestedBeanType == null ) {
+					throw new IllegalArgumentException( "The property name and the bean type must not be null." );
+				}
+				nestedBeanPaths.push( nestedBeanPaths.isEmpty() ? propertyName : nestedBeanPaths.peek() + "." + propertyName );
+				nestedBeanTypes.push( nestedBeanType );
+				return !aborted;
+			}
+
+			@Override
+			public boolean endBean() {
+				if ( nestedBeanTypes.isEmpty() ) {
+					throw new IllegalStateException( "No nested bean is begun." );
+				}
+				nestedBeanPaths.pop();
+				nestedBeanTypes.pop();
+				return !aborted;
+			}
+
+			@Override
+			public boolean isAborted() {
+				return aborted;
+			}
+
+			@Override
+			public List<ConstraintViolation<?>> getViolations() {
+				return Collections.unmodifiableList( violations );
+			}
+
+			@Override
+			public Map<String, Set<ConstraintViolation<?>>> getViolationsByBeanPath() {
+				Map<String, Set<ConstraintViolation<?>>> beanPathViolations = new LinkedHashMap<>();
+				for ( Map.Entry<String, Set<ConstraintViolation<?>>> entry : violationsByBeanPath.entrySet() ) {
+					beanPathViolations.put( entry.getKey(), Collections.unmodifiableSet( entry.getValue() ) );
+				}
+				return Collections.unmodifiableMap( beanPathViolations );
+			}
+		};
+	}
+
+	/**
+	 * Returns a handle validating the constraints placed on the property named
+	 * {@code propertyName} of the class {@code beanType}, against the given groups.
+	 * <p>
+	 * The returned handle is meant to be obtained once and reused, from any thread, instead
+	 * of repeatedly calling {@link #validateProperty(Object, String, Class[])} or
+	 * {@link #validateValue(Class, String, Object, Class[])} for the same property.
+	 *
+	 * @param beanType the bean type
+	 * @param propertyName the property name
+	 * @param propertyType the type of the property; for a property of a primitive type,
+	 *        either the primitive type or its wrapper type
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @param <T> the bean type
+	 * @param <V> the type of the property
+	 * @return the property handle
+	 * @throws IllegalArgumentException if {@code beanType}, {@code propertyType} or
+	 *         {@code propertyName} is {@code null}, if {@code propertyName} is empty
+	 *         or if {@code null} is passed to the varargs groups; providers should also
+	 *         throw it if {@code propertyName} is not a valid property of {@code beanType}
+	 *         or if its type is not assignable to {@code propertyType}
+	 * @throws ValidationException if a non recoverable error happens
+	 *         during the metadata discovery or if some
+	 *         constraints are invalid.
+	 *
+	 * @implNote The default implementation returns a handle delegating to
+	 *          {@link #validateProperty(Object, String, Class[])} and
+	 *          {@link #validateValue(Class, String, Object, Class[])}, which only checks the
+	 *          property name when validating. Implementations should override this method
+	 *          for better performance.
+	 * @since 4.0
+	 */
+	default <T, V> PropertyValidator<T, V> forProperty(Class<T> beanType, String propertyName, Class<V> propertyType,
+			Class<?>... groups) {
+		if ( beanType == null || propertyType == null ) {
+			throw new IllegalArgumentException( "The bean type and the property type must not be null." );
+		}
+		if ( propertyName == null || propertyName.isEmpty() ) {
+			throw new IllegalArgumentException( "The property name must not be null or empty." );
+		}
+		if ( groups == null || Arrays.asList( groups ).contains( null ) ) {
+			throw new IllegalArgumentException( "The groups must not be null." );
+		}
+		Class<?>[] validatedGroups = groups.clone();
+		List<Class<?>> handleGroups = List.of( validatedGroups );
+
+		return new PropertyValidator<T, V>() {
+
+			@Override
+			public Class<T> getBeanClass() {
+				return beanType;
+			}
+
+			@Override
+			public String getPropertyName() {
+				return propertyName;
+			}
+
+			@Override
+			public List<Class<?>> getGroups() {
+				return handleGroups;
+			}
+
+			@Override
+			public Set<ConstraintViolation<T>> validateProperty(T object) {
+				if ( !beanType.isInstance( object ) ) {
+					throw new IllegalArgumentException( "The object to validate must be an instance of " + beanType.getName() + "." );
+				}
+				return Validator.this.validateProperty( object, propertyName, validatedGroups );
+			}
+
+			@Override
+			public Set<ConstraintViolation<T>> validateValue(V value) {
+				return Validator.this.validateValue( beanType, propertyName, value, validatedGroups );
+			}
+		};
+	}
+
+	/**
+	 * Returns a handle validating the constraints placed on the given property of the class
+	 * {@code beanType}, against the given groups.
+	 *
+	 * @param beanType the bean type
+	 * @param property the descriptor of the property, as returned by
+	 *        {@link BeanDescriptor#getConstraintsForProperty(String)} or
+	 *        {@link BeanDescriptor#getConstrainedProperties()} for {@code beanType}
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @param <T> the bean type
+	 * @return the property handle
+	 * @throws IllegalArgumentException if {@code beanType} or {@code property} is
+	 *         {@code null} or if {@code null} is passed to the varargs groups
+	 * @throws ValidationException if a non recoverable error happens
+	 *         during the metadata discovery or if some
+	 *         constraints are invalid.
+	 *
+	 * @implNote The default implementation delegates to
+	 *          {@link #forProperty(Class, String, Class, Class[])}.
+	 * @since 4.0
+	 */
+	default <T> PropertyValidator<T, ?> forProperty(Class<T> beanType, PropertyDescriptor property, Class<?>... groups) {
+		if ( property == null ) {
+			throw new IllegalArgumentException( "The property descriptor must not be null." );
+		}
+		return forProperty( beanType, property.getPropertyName(), property.getElementClass(), groups );
+	}
+
 	/**
 	 * Returns the descriptor object describing bean constraints.
 	 * <p>
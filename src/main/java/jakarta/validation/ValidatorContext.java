@@ -6,6 +6,10 @@
  */
 package jakarta.validation;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+import jakarta.validation.spi.CascadeTraversal;
 import jakarta.validation.valueextraction.ValueExtractor;
 import jakarta.validation.valueextraction.ValueExtractorDeclarationException;
 
@@ -102,6 +106,160 @@ public interface ValidatorContext {
 	 */
 	ValidatorContext addValueExtractor(ValueExtractor<?> extractor);
 
+	/**
+	 * Enables or disables the fail fast mode of the {@link Validator}, in which
+	 * validation stops as soon as a constraint violation is found (see
+	 * {@link Configuration#failFast(boolean)}).
+	 * If not set, the fail fast mode of the {@link ValidatorFactory} is used.
+	 *
+	 * @param failFast whether the fail fast mode is enabled
+	 * @return self following the chaining method pattern
+	 * @throws ValidationException if the provider does not support the fail fast mode
+	 *
+	 * @implNote The default implementation throws a {@code ValidationException}.
+	 * @since 4.0
+	 */
+	default ValidatorContext failFast(boolean failFast) {
+		throw new ValidationException( "The Jakarta Validation provider does not support the fail fast mode." );
+	}
+
+	/**
+	 * Defines the maximum number of constraint violations reported by a validation call
+	 * of the {@link Validator}; once it is reached, validation is halted and the returned
+	 * set of constraint violations is a {@link ConstraintViolationSet} marked as truncated
+	 * (see {@link Configuration#maxViolations(int)}).
+	 * If not set, the maximum of the {@link ValidatorFactory} is used.
+	 *
+	 * @param maxViolations the maximum number of constraint violations
+	 * @return self following the chaining method pattern
+	 * @throws IllegalArgumentException if {@code maxViolations} is lower than {@code 1}
+	 * @throws ValidationException if the provider does not support limiting the number of
+	 *         constraint violations
+	 *
+	 * @implNote The default implementation throws an {@code IllegalArgumentException} if
+	 *          {@code maxViolations} is lower than {@code 1} and a {@code ValidationException}
+	 *          otherwise.
+	 * @since 4.0
+	 */
+	default ValidatorContext maxViolations(int maxViolations) {
+		if ( maxViolations < 1 ) {
+			throw new IllegalArgumentException( "The maximum number of constraint violations must be at least 1." );
+		}
+		throw new ValidationException(
+				"The Jakarta Validation provider does not support limiting the number of constraint violations." );
+	}
+
+	/**
+	 * Defines the {@link Executor} used by the {@link Validator} to validate large cascades
+	 * concurrently.
+	 * <p>
+	 * When a cascaded container value (as extracted by its {@link ValueExtractor}) has more
+	 * elements than {@code parallelismThreshold}, the validation of its elements may be split
+	 * into subtasks run by {@code executor}, the calling thread joining them. Concurrent
+	 * validation does not change the result:
+	 * <ul>
+	 *     <li>the constraint violations are reported in the same order as if the elements
+	 *     had been validated sequentially, in iteration order,</li>
+	 *     <li>a bean is validated at most once per group and path, whichever thread reaches
+	 *     it first, so cycles are detected across subtasks.</li>
+	 * </ul>
+	 * If not set or if {@code null} is passed as the executor, cascades are validated by
+	 * the calling thread.
+	 *
+	 * @param executor the executor running the subtasks
+	 * @param parallelismThreshold the number of elements a container must exceed for its
+	 *        elements to be validated concurrently
+	 * @return self following the chaining method pattern
+	 * @throws IllegalArgumentException if {@code parallelismThreshold} is lower than {@code 1}
+	 * @throws ValidationException if the provider does not support validating cascades
+	 *         concurrently
+	 *
+	 * @implNote The default implementation throws an {@code IllegalArgumentException} if
+	 *          {@code parallelismThreshold} is lower than {@code 1} and a
+	 *          {@code ValidationException} otherwise.
+	 * @since 4.0
+	 */
+	default ValidatorContext cascadeExecutor(Executor executor, int parallelismThreshold) {
+		if ( parallelismThreshold < 1 ) {
+			throw new IllegalArgumentException( "The parallelism threshold must be at least 1." );
+		}
+		throw new ValidationException( "The Jakarta Validation provider does not support validating cascades concurrently." );
+	}
+
+	/**
+	 * Defines the maximum depth of the cascades validated by the {@link Validator}; a
+	 * validation call cascading deeper fails with a {@link ValidationException}.
+	 * <p>
+	 * The validated object has the depth {@code 0}, and a value cascaded to from a value of
+	 * depth {@code d} has the depth {@code d + 1}. Providers must traverse cascades without
+	 * bounding their depth by the stack size of the validating thread, e.g. using
+	 * {@link CascadeTraversal}, so that deep object graphs such as long linked lists can be
+	 * validated up to this depth.
+	 * If not set, the maximum cascade depth is defined by the provider.
+	 *
+	 * @param maxCascadeDepth the maximum cascade depth
+	 * @return self following the chaining method pattern
+	 * @throws IllegalArgumentException if {@code maxCascadeDepth} is negative
+	 * @throws ValidationException if the provider does not support limiting the cascade
+	 *         depth
+	 *
+	 * @implNote The default implementation throws an {@code IllegalArgumentException} if
+	 *          {@code maxCascadeDepth} is negative and a {@code ValidationException}
+	 *          otherwise.
+	 * @since 4.0
+	 */
+	default ValidatorContext maxCascadeDepth(int maxCascadeDepth) {
+		if ( maxCascadeDepth < 0 ) {
+			throw new IllegalArgumentException( "The maximum cascade depth must not be negative, but was " + maxCascadeDepth + "." );
+		}
+		throw new ValidationException( "The Jakarta Validation provider does not support limiting the cascade depth." );
+	}
+
+	/**
+	 * Defines the maximum duration of each validation call of the {@link Validator}.
+	 * <p>
+	 * Once the deadline of a validation call is exceeded, it aborts with a
+	 * {@link ValidationAbortedException} carrying the constraint violations found so far.
+	 * The deadline is checked between the evaluation of two constraints and between two
+	 * cascading steps, so the evaluation of a single constraint is not interrupted.
+	 * If not set or if {@code null} is passed as a parameter, validation calls have no
+	 * deadline.
+	 *
+	 * @param deadline the maximum duration of a validation call
+	 * @return self following the chaining method pattern
+	 * @throws IllegalArgumentException if {@code deadline} is negative or zero
+	 * @throws ValidationException if the provider does not support deadlines
+	 *
+	 * @implNote The default implementation throws an {@code IllegalArgumentException} if
+	 *          {@code deadline} is negative or zero and a {@code ValidationException}
+	 *          otherwise.
+	 * @since 4.0
+	 */
+	default ValidatorContext deadline(Duration deadline) {
+		if ( deadline != null && ( deadline.isNegative() || deadline.isZero() ) ) {
+			throw new IllegalArgumentException( "The deadline must be positive, but was " + deadline + "." );
+		}
+		throw new ValidationException( "The Jakarta Validation provider does not support validation deadlines." );
+	}
+
+	/**
+	 * Defines the token allowing the validation calls of the {@link Validator} to be
+	 * cancelled; once the token is cancelled, validation calls abort with a
+	 * {@link ValidationAbortedException} carrying the constraint violations found so far.
+	 * If not set or if {@code null} is passed as a parameter, validation calls cannot be
+	 * cancelled.
+	 *
+	 * @param cancellationToken the cancellation token
+	 * @return self following the chaining method pattern
+	 * @throws ValidationException if the provider does not support cancellation
+	 *
+	 * @implNote The default implementation throws a {@code ValidationException}.
+	 * @since 4.0
+	 */
+	default ValidatorContext cancellationToken(CancellationToken cancellationToken) {
+		throw new ValidationException( "The Jakarta Validation provider does not support cancelling validation." );
+	}
+
 	/**
 	 * Returns an initialized {@link Validator} instance respecting the defined state.
 	 * {@code Validator} instances can be pooled and shared by the implementation.
@@ -6,6 +6,21 @@
  */
 package jakarta.validation;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.spi.MetadataSnapshot;
+
 /**
  * Factory returning initialized {@code Validator} instances.
  * <p>
@@ -87,6 +102,77 @@ public interface ValidatorFactory extends AutoCloseable {
 	 */
 	ClockProvider getClockProvider();
 
+	/**
+	 * Eagerly prepares everything needed to validate instances of the given types, so that
+	 * the first validations after startup do not pay for it.
+	 * <p>
+	 * Warming up a type builds its {@link BeanDescriptor} and, depending on the provider,
+	 * resolves the {@link ConstraintValidator}s of its constraints and prepares them (e.g.
+	 * compiles the regular expressions of {@code Pattern} constraints). Types are warmed up
+	 * in parallel in tasks submitted to {@code executor}.
+	 * <p>
+	 * The types listed in {@code META-INF/validation.xml} (see
+	 * {@link BootstrapConfiguration#getWarmUpClassNames()}) are warmed up by the provider
+	 * when building the {@code ValidatorFactory}.
+	 *
+	 * @param types the types to warm up
+	 * @param executor the executor used to warm up the types
+	 * @return a stage completed with the time spent warming up each type, or completed
+	 *         exceptionally with a {@link java.util.concurrent.CompletionException} whose cause
+	 *         is the {@link ValidationException} raised if the metadata of a type cannot be built
+	 * @throws IllegalArgumentException if {@code types}, one of its elements or
+	 *         {@code executor} is {@code null}
+	 *
+	 * @implNote The default implementation retrieves the {@code BeanDescriptor} of each type
+	 *          using {@link Validator#getConstraintsForClass(Class)}. Implementations may
+	 *          override this method to prepare constraint validators as well.
+	 * @since 4.0
+	 */
+	default CompletionStage<Map<Class<?>, Duration>> warmUp(Collection<Class<?>> types, Executor executor) {
+		if ( types == null ) {
+			throw new IllegalArgumentException( "The types must not be null." );
+		}
+		if ( executor == null ) {
+			throw new IllegalArgumentException( "The executor must not be null." );
+		}
+		Validator validator = getValidator();
+		Map<Class<?>, Duration> timings = new ConcurrentHashMap<>();
+		List<CompletableFuture<Void>> warmUps = new ArrayList<>( types.size() );
+		for ( Class<?> type : types ) {
+			if ( type == null ) {
+				throw new IllegalArgumentException( "The types must not contain null." );
+			}
+			warmUps.add( CompletableFuture.runAsync( () -> {
+				long start = System.nanoTime();
+				validator.getConstraintsForClass( type );
+				timings.put( type, Duration.ofNanos( System.nanoTime() - start ) );
+			}, executor ) );
+		}
+		return CompletableFuture.allOf( warmUps.toArray( new CompletableFuture<?>[0] ) )
+				.thenApply( ignored -> Collections.unmodifiableMap( timings ) );
+	}
+
+	/**
+	 * Writes a snapshot of the metadata of the given types, from which the provider can
+	 * restore it at startup instead of building it by reflection (see
+	 * {@link Configuration#metadataSnapshot(Path)}).
+	 * <p>
+	 * This method is typically invoked at build time.
+	 *
+	 * @param types the types whose metadata is written
+	 * @param path the snapshot file; it is replaced if it exists
+	 * @throws IllegalArgumentException if {@code types} or {@code path} is {@code null}
+	 * @throws ValidationException if the snapshot cannot be written or if the provider does
+	 *         not support metadata snapshots
+	 *
+	 * @implNote The default implementation throws a {@code ValidationException}.
+	 * @see MetadataSnapshot
+	 * @since 4.0
+	 */
+	default void writeMetadataSnapshot(Collection<Class<?>> types, Path path) {
+		throw new ValidationException( "The Jakarta Validation provider does not support metadata snapshots." );
+	}
+
 	/**
 	 * Returns an instance of the specified type allowing access to
 	 * provider-specific APIs. If the Jakarta Validation provider
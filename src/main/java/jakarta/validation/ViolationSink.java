@@ -0,0 +1,33 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+/**
+ * Receives the constraint violations found by
+ * {@link Validator#validate(Object, ViolationSink, Class[])} as they are found, e.g. to
+ * stream them into an error response, without the violations being collected into a
+ * {@code Set} first.
+ * <p>
+ * The sink is invoked by the validating thread; it decides whether validation carries on
+ * after each violation.
+ *
+ * @param <T> the type of the root bean
+ *
+ * @since 4.0
+ */
+@FunctionalInterface
+public interface ViolationSink<T> {
+
+	/**
+	 * Receives a constraint violation.
+	 *
+	 * @param violation the constraint violation
+	 * @return {@code true} to carry on with validation, {@code false} to stop it, in which
+	 *         case the sink does not receive any other constraint violation
+	 */
+	boolean accept(ConstraintViolation<? extends T> violation);
+}
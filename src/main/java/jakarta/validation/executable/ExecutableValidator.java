@@ -104,4 +104,136 @@ public interface ExecutableValidator {
 	<T> Set<ConstraintViolation<T>> validateConstructorReturnValue(Constructor<? extends T> constructor,
 																   T createdObject,
 																   Class<?>... groups);
+
+	/**
+	 * Returns whether all constraints placed on the parameters of the given method
+	 * are satisfied.
+	 * <p>
+	 * The result is the same as
+	 * {@code validateParameters( object, method, parameterValues, groups ).isEmpty()},
+	 * but as no {@link ConstraintViolation} is returned, the provider may stop validating as soon
+	 * as a constraint is not satisfied and skip message interpolation and the creation
+	 * of property paths altogether.
+	 *
+	 * @param <T> the type hosting the method to validate
+	 * @param object the object on which the method to validate is invoked
+	 * @param method the method for which the parameter constraints is validated
+	 * @param parameterValues the values provided by the caller for the given method's
+	 *        parameters
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @return {@code true} if no constraint is violated, {@code false} otherwise
+	 * @throws IllegalArgumentException if {@code null} is passed for any of the parameters
+	 *         or if parameters don't match with each other
+	 * @throws ValidationException if a non recoverable error happens during the
+	 *         validation process
+	 *
+	 * @implNote The default implementation delegates to
+	 *          {@link #validateParameters(Object, Method, Object[], Class[])}.
+	 *          Implementations should override this method for better performance.
+	 * @since 4.0
+	 */
+	default <T> boolean areParametersValid(T object,
+										   Method method,
+										   Object[] parameterValues,
+										   Class<?>... groups) {
+		return validateParameters( object, method, parameterValues, groups ).isEmpty();
+	}
+
+	/**
+	 * Returns whether all return value constraints of the given method are satisfied.
+	 * <p>
+	 * The result is the same as
+	 * {@code validateReturnValue( object, method, returnValue, groups ).isEmpty()},
+	 * but as no {@link ConstraintViolation} is returned, the provider may stop validating as soon
+	 * as a constraint is not satisfied and skip message interpolation and the creation
+	 * of property paths altogether.
+	 *
+	 * @param <T> the type hosting the method to validate
+	 * @param object the object on which the method to validate is invoked
+	 * @param method the method for which the return value constraints is validated
+	 * @param returnValue the value returned by the given method
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @return {@code true} if no constraint is violated, {@code false} otherwise
+	 * @throws IllegalArgumentException if {@code null} is passed for any of the object,
+	 *         method or groups parameters or if parameters don't match with each other
+	 * @throws ValidationException if a non recoverable error happens during the
+	 *         validation process
+	 *
+	 * @implNote The default implementation delegates to
+	 *          {@link #validateReturnValue(Object, Method, Object, Class[])}.
+	 *          Implementations should override this method for better performance.
+	 * @since 4.0
+	 */
+	default <T> boolean isReturnValueValid(T object,
+										   Method method,
+										   Object returnValue,
+										   Class<?>... groups) {
+		return validateReturnValue( object, method, returnValue, groups ).isEmpty();
+	}
+
+	/**
+	 * Returns whether all constraints placed on the parameters of the given constructor
+	 * are satisfied.
+	 * <p>
+	 * The result is the same as
+	 * {@code validateConstructorParameters( constructor, parameterValues, groups ).isEmpty()},
+	 * but as no {@link ConstraintViolation} is returned, the provider may stop validating as soon
+	 * as a constraint is not satisfied and skip message interpolation and the creation
+	 * of property paths altogether.
+	 *
+	 * @param <T> the type hosting the constructor to validate
+	 * @param constructor the constructor for which the parameter constraints is validated
+	 * @param parameterValues the values provided by the caller for the given constructor's
+	 *        parameters
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @return {@code true} if no constraint is violated, {@code false} otherwise
+	 * @throws IllegalArgumentException if {@code null} is passed for any of the parameters
+	 *         or if parameters don't match with each other
+	 * @throws ValidationException if a non recoverable error happens during the
+	 *         validation process
+	 *
+	 * @implNote The default implementation delegates to
+	 *          {@link #validateConstructorParameters(Constructor, Object[], Class[])}.
+	 *          Implementations should override this method for better performance.
+	 * @since 4.0
+	 */
+	default <T> boolean areConstructorParametersValid(Constructor<? extends T> constructor,
+													  Object[] parameterValues,
+													  Class<?>... groups) {
+		return this.<T>validateConstructorParameters( constructor, parameterValues, groups ).isEmpty();
+	}
+
+	/**
+	 * Returns whether all return value constraints of the given constructor are satisfied.
+	 * <p>
+	 * The result is the same as
+	 * {@code validateConstructorReturnValue( constructor, createdObject, groups ).isEmpty()},
+	 * but as no {@link ConstraintViolation} is returned, the provider may stop validating as soon
+	 * as a constraint is not satisfied and skip message interpolation and the creation
+	 * of property paths altogether.
+	 *
+	 * @param <T> the type hosting the constructor to validate
+	 * @param constructor the constructor for which the return value constraints is validated
+	 * @param createdObject the object instantiated by the given method
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link Default})
+	 * @return {@code true} if no constraint is violated, {@code false} otherwise
+	 * @throws IllegalArgumentException if {@code null} is passed for any of the parameters
+	 *         or if parameters don't match with each other
+	 * @throws ValidationException if a non recoverable error happens during the
+	 *         validation process
+	 *
+	 * @implNote The default implementation delegates to
+	 *          {@link #validateConstructorReturnValue(Constructor, Object, Class[])}.
+	 *          Implementations should override this method for better performance.
+	 * @since 4.0
+	 */
+	default <T> boolean isConstructorReturnValueValid(Constructor<? extends T> constructor,
+													  T createdObject,
+													  Class<?>... groups) {
+		return validateConstructorReturnValue( constructor, createdObject, groups ).isEmpty();
+	}
 }
@@ -0,0 +1,154 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation.spi;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+import jakarta.validation.ValidationException;
+import jakarta.validation.ValidatorContext;
+
+/**
+ * A traversal engine for cascaded validation, which providers may use to walk the object
+ * graph of a validation call without recursion, so that the depth of the graph is not
+ * bounded by the stack size of the validating thread.
+ * <p>
+ * The traversal starts from a root node and visits the nodes depth-first, in pre-order:
+ * each node is visited before the nodes it cascades to, which are visited in the order the
+ * visitor cascaded to them. This is the order in which a recursive implementation
+ * validates the cascaded values. Once a node and all the nodes reachable from it have been
+ * visited, the node is left (see {@link Visitor#leave(Object, int)}), as a recursive
+ * implementation would return from it.
+ * <p>
+ * The nodes are typically the provider's representation of a value to validate along with
+ * its property path; detecting cycles is up to the visitor. As the nodes being visited and
+ * not yet left are the ancestors of the current node, a visitor can scope its bookkeeping
+ * to the current path by adding a node when visiting it and removing it when leaving it,
+ * e.g. using an {@link IdentitySet}: a bean reached through two sibling paths is then
+ * validated on both paths, while a bean cascading to one of its ancestors is detected.
+ * <p>
+ * The depth of the root node is {@code 0}, and the depth of a node cascaded to from a node
+ * of depth {@code d} is {@code d + 1}. A visitor cascading to a node deeper than the
+ * maximum cascade depth makes the traversal fail (see
+ * {@link ValidatorContext#maxCascadeDepth(int)}).
+ * <p>
+ * This class is thread-safe; each traversal only uses the calling thread.
+ *
+ * @since 4.0
+ */
+public final class CascadeTraversal {
+
+	private CascadeTraversal() {
+	}
+
+	/**
+	 * Visits the node of a cascaded validation.
+	 *
+	 * @param <N> the type of the nodes
+	 *
+	 * @since 4.0
+	 */
+	@FunctionalInterface
+	public interface Visitor<N> {
+
+		/**
+		 * Visits a node, typically validating its value, and cascades to the nodes to
+		 * visit next by passing them to {@code cascade}.
+		 *
+		 * @param node the node
+		 * @param depth the depth of the node
+		 * @param cascade the consumer of the nodes this node cascades to; it must not be
+		 *        used once this method has returned
+		 */
+		void visit(N node, int depth, Consumer<? super N> cascade);
+
+		/**
+		 * Leaves a node, once it and all the nodes reachable from it have been visited. A
+		 * node is not left if visiting it or one of the nodes reachable from it failed.
+		 *
+		 * @param node the node
+		 * @param depth the depth of the node
+		 *
+		 * @implNote The default implementation does nothing.
+		 */
+		default void leave(N node, int depth) {
+		}
+	}
+
+	/**
+	 * Visits the graph of nodes reachable from {@code root}, using an explicit work stack.
+	 *
+	 * @param root the root node
+	 * @param maxCascadeDepth the maximum depth of the visited nodes
+	 * @param visitor the visitor
+	 * @param <N> the type of the nodes
+	 * @throws IllegalArgumentException if {@code root} or {@code visitor} is {@code null}
+	 *         or if {@code maxCascadeDepth} is negative
+	 * @throws ValidationException if the visitor cascades to a node deeper than
+	 *         {@code maxCascadeDepth}
+	 */
+	public static <N> void traverse(N root, int maxCascadeDepth, Visitor<N> visitor) {
+		if ( root == null || visitor == null ) {
+			throw new IllegalArgumentException( "The root node and the visitor must not be null." );
+		}
+		if ( maxCascadeDepth < 0 ) {
+			throw new IllegalArgumentException( "The maximum cascade depth must not be negative, but was " + maxCascadeDepth + "." );
+		}
+
+		Deque<Entry<N>> stack = new ArrayDeque<>();
+		List<N> cascaded = new ArrayList<>();
+		Consumer<N> cascade = node -> {
+			if ( node == null ) {
+				throw new IllegalArgumentException( "The cascaded node must not be null." );
+			}
+			cascaded.add( node );
+		};
+
+		stack.push( new Entry<>( root, 0, false ) );
+		while ( !stack.isEmpty() ) {
+			Entry<N> entry = stack.pop();
+			if ( entry.exit ) {
+				visitor.leave( entry.node, entry.depth );
+				continue;
+			}
+			visitor.visit( entry.node, entry.depth, cascade );
+			if ( cascaded.isEmpty() ) {
+				visitor.leave( entry.node, entry.depth );
+				continue;
+			}
+			if ( entry.depth == maxCascadeDepth ) {
+				throw new ValidationException( "The maximum cascade depth of " + maxCascadeDepth + " is exceeded." );
+			}
+			//the exit marker is popped once all the cascaded nodes have been visited and left
+			stack.push( new Entry<>( entry.node, entry.depth, true ) );
+			//pushed in reverse order so that the cascaded nodes are visited in the order they were given
+			for ( int i = cascaded.size() - 1; i >= 0; i-- ) {
+				stack.push( new Entry<>( cascaded.get( i ), entry.depth + 1, false ) );
+			}
+			cascaded.clear();
+		}
+	}
+
+	private static class Entry<N> {
+
+		private final N node;
+
+		private final int depth;
+
+		//whether the entry marks the end of the visit of the nodes reachable from the node
+		private final boolean exit;
+
+		private Entry(N node, int depth, boolean exit) {
+			this.node = node;
+			this.depth = depth;
+			this.exit = exit;
+		}
+	}
+}
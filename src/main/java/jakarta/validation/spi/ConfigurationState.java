@@ -16,6 +16,7 @@ import jakarta.validation.ConstraintValidatorFactory;
 import jakarta.validation.MessageInterpolator;
 import jakarta.validation.ParameterNameProvider;
 import jakarta.validation.TraversableResolver;
+import jakarta.validation.ValidationException;
 import jakarta.validation.ValidatorFactory;
 import jakarta.validation.valueextraction.ValueExtractor;
 
@@ -195,4 +196,69 @@ public interface ConfigurationState {
 	 *         the property value
 	 */
 	Map<String, String> getProperties();
+
+	/**
+	 * Returns whether the fail fast mode is enabled for this configuration.
+	 * <p>
+	 * The fail fast mode is enabled if the {@value Configuration#FAIL_FAST_PROPERTY}
+	 * property is {@code true}, be it set via {@link Configuration#failFast(boolean)},
+	 * {@link Configuration#addProperty(String, String)} or in
+	 * {@code META-INF/validation.xml} provided that {@code ignoreXmlConfiguration}
+	 * is {@code false}. Like the other standardized properties, the property is rejected
+	 * if its value is malformed, i.e. neither {@code true} nor {@code false}, ignoring case.
+	 *
+	 * @return {@code true} if the fail fast mode is enabled
+	 * @throws ValidationException if the property is neither {@code true} nor {@code false}
+	 *
+	 * @implNote The default implementation reads the property from {@link #getProperties()}.
+	 * @since 4.0
+	 */
+	default boolean isFailFast() {
+		String failFast = getProperties().get( Configuration.FAIL_FAST_PROPERTY );
+		if ( failFast == null ) {
+			return false;
+		}
+		if ( "true".equalsIgnoreCase( failFast.trim() ) ) {
+			return true;
+		}
+		if ( "false".equalsIgnoreCase( failFast.trim() ) ) {
+			return false;
+		}
+		throw new ValidationException( "Invalid value for property " + Configuration.FAIL_FAST_PROPERTY + ": "
+				+ failFast + ", true or false is expected." );
+	}
+
+	/**
+	 * Returns the maximum number of constraint violations reported by a validation call.
+	 * <p>
+	 * The maximum is defined by the {@value Configuration#MAX_VIOLATIONS_PROPERTY} property,
+	 * be it set via {@link Configuration#maxViolations(int)},
+	 * {@link Configuration#addProperty(String, String)} or in
+	 * {@code META-INF/validation.xml} provided that {@code ignoreXmlConfiguration}
+	 * is {@code false}.
+	 *
+	 * @return the maximum number of constraint violations or {@link Integer#MAX_VALUE} if
+	 *         it is not limited
+	 * @throws ValidationException if the property is not a positive integer
+	 *
+	 * @implNote The default implementation reads the property from {@link #getProperties()}.
+	 * @since 4.0
+	 */
+	default int getMaxViolations() {
+		String maxViolations = getProperties().get( Configuration.MAX_VIOLATIONS_PROPERTY );
+		if ( maxViolations == null ) {
+			return Integer.MAX_VALUE;
+		}
+		try {
+			int value = Integer.parseInt( maxViolations.trim() );
+			if ( value >= 1 ) {
+				return value;
+			}
+		}
+		catch (NumberFormatException e) {
+			// reported below
+		}
+		throw new ValidationException( "Invalid value for property " + Configuration.MAX_VIOLATIONS_PROPERTY + ": "
+				+ maxViolations + ", a positive integer is expected." );
+	}
 }
@@ -0,0 +1,274 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation.spi;
+
+import java.util.Arrays;
+
+/**
+ * A set of object references compared by identity, which providers may use to keep track of
+ * the beans already validated during a validation call, e.g. to detect cycles when
+ * cascading.
+ * <p>
+ * Each element is a key, optionally qualified by a second reference, e.g. a bean and the
+ * group it was validated for; both are compared by identity. The set is an open-addressing
+ * hash table with linear probing, storing the references in a single array: adding an
+ * element does not allocate anything unless the table needs to grow, and removing an
+ * element shifts the following elements of its probe sequence back instead of leaving a
+ * tombstone. The set is meant to be reused across validation calls: {@link #clear()} keeps
+ * the table, so a reused set stops allocating once it has grown to the size required by the
+ * largest graphs.
+ * <p>
+ * The set itself does not know about property paths. To keep track of the beans validated
+ * for a group on the current path, i.e. of the (bean, group, path) triples, a provider
+ * traversing the graph with {@link CascadeTraversal} adds the bean qualified by the group
+ * when visiting it and removes it when leaving it: the set then only holds the ancestors of
+ * the current node, so a bean reached through two sibling paths is validated on both,
+ * while a bean cascading to one of its ancestors is found in the set. Not removing the
+ * elements instead validates each bean at most once per group for the whole call.
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @since 4.0
+ */
+public final class IdentitySet {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	//the maximum capacity such that the table length does not overflow
+	private static final int MAXIMUM_CAPACITY = 1 << 29;
+
+	//key at 2 * i, qualifier at 2 * i + 1, null key for a free slot
+	private Object[] table;
+
+	private int size;
+
+	/**
+	 * Creates an empty set.
+	 */
+	public IdentitySet() {
+		this( DEFAULT_CAPACITY );
+	}
+
+	/**
+	 * Creates an empty set which can hold the given number of elements without growing.
+	 *
+	 * @param expectedSize the expected number of elements
+	 * @throws IllegalArgumentException if {@code expectedSize} is negative
+	 */
+	public IdentitySet(int expectedSize) {
+		if ( expectedSize < 0 ) {
+			throw new IllegalArgumentException( "The expected size must not be negative, but was " + expectedSize + "." );
+		}
+		this.table = new Object[2 * capacityFor( expectedSize )];
+	}
+
+	/**
+	 * Adds a key, with no qualifier, to this set.
+	 *
+	 * @param key the key
+	 * @return {@code true} if the key was added, {@code false} if it was already contained
+	 * @throws IllegalArgumentException if {@code key} is {@code null}
+	 */
+	public boolean add(Object key) {
+		return add( key, null );
+	}
+
+	/**
+	 * Adds a key with its qualifier to this set.
+	 *
+	 * @param key the key
+	 * @param qualifier the qualifier, or {@code null} for no qualifier
+	 * @return {@code true} if the element was added, {@code false} if it was already
+	 *         contained
+	 * @throws IllegalArgumentException if {@code key} is {@code null}
+	 */
+	public boolean add(Object key, Object qualifier) {
+		if ( key == null ) {
+			throw new IllegalArgumentException( "The key must not be null." );
+		}
+		int mask = table.length - 2;
+		int index = indexFor( key, qualifier, mask );
+		Object candidate;
+		while ( ( candidate = table[index] ) != null ) {
+			if ( candidate == key && table[index + 1] == qualifier ) {
+				return false;
+			}
+			index = ( index + 2 ) & mask;
+		}
+		table[index] = key;
+		table[index + 1] = qualifier;
+		size++;
+		//keeps the load factor at most 1/2
+		if ( 4 * size > table.length ) {
+			resize();
+		}
+		return true;
+	}
+
+	/**
+	 * Returns whether this set contains the given key, with no qualifier.
+	 *
+	 * @param key the key
+	 * @return {@code true} if the key is contained
+	 */
+	public boolean contains(Object key) {
+		return contains( key, null );
+	}
+
+	/**
+	 * Returns whether this set contains the given key with the given qualifier.
+	 *
+	 * @param key the key
+	 * @param qualifier the qualifier, or {@code null} for no qualifier
+	 * @return {@code true} if the element is contained
+	 */
+	public boolean contains(Object key, Object qualifier) {
+		if ( key == null ) {
+			return false;
+		}
+		int mask = table.length - 2;
+		int index = indexFor( key, qualifier, mask );
+		Object candidate;
+		while ( ( candidate = table[index] ) != null ) {
+			if ( candidate == key && table[index + 1] == qualifier ) {
+				return true;
+			}
+			index = ( index + 2 ) & mask;
+		}
+		return false;
+	}
+
+	/**
+	 * Removes the given key, with no qualifier, from this set.
+	 *
+	 * @param key the key
+	 * @return {@code true} if the key was removed, {@code false} if it was not contained
+	 */
+	public boolean remove(Object key) {
+		return remove( key, null );
+	}
+
+	/**
+	 * Removes the given key with the given qualifier from this set.
+	 *
+	 * @param key the key
+	 * @param qualifier the qualifier, or {@code null} for no qualifier
+	 * @return {@code true} if the element was removed, {@code false} if it was not contained
+	 */
+	public boolean remove(Object key, Object qualifier) {
+		if ( key == null ) {
+			return false;
+		}
+		int mask = table.length - 2;
+		int index = indexFor( key, qualifier, mask );
+		Object candidate;
+		while ( ( candidate = table[index] ) != null ) {
+			if ( candidate == key && table[index + 1] == qualifier ) {
+				shiftBack( index, mask );
+				size--;
+				return true;
+			}
+			index = ( index + 2 ) & mask;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the number of elements of this set.
+	 *
+	 * @return the number of elements
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns whether this set has no element.
+	 *
+	 * @return {@code true} if this set is empty
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes all the elements of this set, keeping its table for reuse.
+	 */
+	public void clear() {
+		if ( size > 0 ) {
+			Arrays.fill( table, null );
+			size = 0;
+		}
+	}
+
+	/**
+	 * Frees the given slot, moving back the following elements of the probe sequence which
+	 * would otherwise no longer be reachable from their first probed slot.
+	 */
+	private void shiftBack(int free, int mask) {
+		int index = free;
+		while ( true ) {
+			index = ( index + 2 ) & mask;
+			Object key = table[index];
+			if ( key == null ) {
+				break;
+			}
+			int home = indexFor( key, table[index + 1], mask );
+			//the element stays if its first probed slot is cyclically in (free, index]
+			boolean reachable = free <= index ? free < home && home <= index : free < home || home <= index;
+			if ( !reachable ) {
+				table[free] = key;
+				table[free + 1] = table[index + 1];
+				free = index;
+			}
+		}
+		table[free] = null;
+		table[free + 1] = null;
+	}
+
+	private void resize() {
+		Object[] oldTable = table;
+		if ( oldTable.length / 2 >= MAXIMUM_CAPACITY ) {
+			throw new IllegalStateException( "The identity set cannot hold more elements." );
+		}
+		Object[] newTable = new Object[2 * oldTable.length];
+		int mask = newTable.length - 2;
+		for ( int i = 0; i < oldTable.length; i += 2 ) {
+			Object key = oldTable[i];
+			if ( key != null ) {
+				int index = indexFor( key, oldTable[i + 1], mask );
+				while ( newTable[index] != null ) {
+					index = ( index + 2 ) & mask;
+				}
+				newTable[index] = key;
+				newTable[index + 1] = oldTable[i + 1];
+			}
+		}
+		table = newTable;
+	}
+
+	/**
+	 * Returns the even index of the first slot to probe for the given element.
+	 */
+	private static int indexFor(Object key, Object qualifier, int mask) {
+		int hash = System.identityHashCode( key ) * 31 + System.identityHashCode( qualifier );
+		//spreads the hash so that elements with close hashes do not cluster
+		hash *= 0x9E3779B9;
+		return ( hash ^ ( hash >>> 16 ) ) << 1 & mask;
+	}
+
+	/**
+	 * Returns the power of two number of slots able to hold the given number of elements
+	 * with a load factor of at most 1/2.
+	 */
+	private static int capacityFor(int expectedSize) {
+		if ( expectedSize >= MAXIMUM_CAPACITY / 2 ) {
+			return MAXIMUM_CAPACITY;
+		}
+		return Math.max( DEFAULT_CAPACITY, Integer.highestOneBit( Math.max( 1, 2 * expectedSize - 1 ) ) << 1 );
+	}
+}
@@ -0,0 +1,383 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation.spi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.validation.Configuration;
+import jakarta.validation.ValidationException;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.metadata.BeanDescriptor;
+
+/**
+ * A persistent snapshot of the metadata of a set of types, allowing a Jakarta Validation
+ * provider to restore the metadata behind {@link BeanDescriptor} and the other descriptors
+ * of {@code jakarta.validation.metadata} instead of rebuilding it by reflection at startup.
+ * <p>
+ * The snapshot format is versioned and consists of:
+ * <ul>
+ *     <li>a header made of a magic number and the {@link #FORMAT_VERSION format version},</li>
+ *     <li>the name of the provider which wrote the snapshot,</li>
+ *     <li>the names of the types whose metadata is contained in the snapshot and of their
+ *     superclasses and implemented interfaces, each with the SHA-256 hash of its class file,</li>
+ *     <li>the SHA-256 hash of the constraint mapping streams the metadata was built from,</li>
+ *     <li>the provider specific representation of the metadata.</li>
+ * </ul>
+ * A snapshot is only valid as long as the class files of its types and of their type
+ * hierarchies, as well as the constraint mappings, are unchanged, see
+ * {@link #isUpToDate(ClassLoader, Collection)}. Providers must ignore snapshots written by another
+ * provider and are responsible for versioning the metadata representation they write.
+ * <p>
+ * Instances are immutable and thread-safe.
+ *
+ * @see Configuration#metadataSnapshot(Path)
+ * @see ValidatorFactory#writeMetadataSnapshot(Collection, Path)
+ * @since 4.0
+ */
+public final class MetadataSnapshot {
+
+	/**
+	 * The version of the snapshot format written by this class.
+	 */
+	public static final int FORMAT_VERSION = 1;
+
+	/**
+	 * The name of the configuration property holding the location of the snapshot file to
+	 * load the metadata from, see {@link Configuration#metadataSnapshot(Path)}. It may also be
+	 * defined in {@code META-INF/validation.xml}.
+	 */
+	public static final String LOCATION_PROPERTY = "jakarta.validation.metadata-snapshot";
+
+	private static final int MAGIC = 0x4A56534E;
+
+	private static final int HASH_LENGTH = 32;
+
+	private final String providerName;
+
+	//class name -> hash of the class file, in the order the types were given
+	private final Map<String, byte[]> classFileHashes;
+
+	private final byte[] mappingsHash;
+
+	private final ByteBuffer metadata;
+
+	private MetadataSnapshot(String providerName, Map<String, byte[]> classFileHashes, byte[] mappingsHash, ByteBuffer metadata) {
+		this.providerName = providerName;
+		this.classFileHashes = classFileHashes;
+		this.mappingsHash = mappingsHash;
+		this.metadata = metadata.asReadOnlyBuffer();
+	}
+
+	/**
+	 * Creates a snapshot of the metadata of the given types.
+	 * <p>
+	 * Besides the class files of the given types, the class files of their superclasses and
+	 * implemented interfaces are hashed, as the metadata of a type includes the constraints
+	 * it inherits; the types of the Java runtime are not hashed.
+	 * <p>
+	 * The metadata of a type also depends on the constraint mappings, so providers must pass
+	 * the mapping streams they built the metadata from, typically
+	 * {@link ConfigurationState#getMappingStreams()}, and pass the same mapping streams to
+	 * {@link #isUpToDate(ClassLoader, Collection)}. The streams are read until their end and
+	 * then reset; their order is not significant.
+	 *
+	 * @param providerName the name identifying the provider writing the snapshot, typically
+	 *        the fully qualified name of its {@link ValidationProvider} implementation
+	 * @param types the types whose metadata is contained in the snapshot
+	 * @param mappingStreams the constraint mapping streams the metadata was built from; they
+	 *        must support mark/reset (see {@link InputStream#markSupported()})
+	 * @param metadata the provider specific representation of the metadata; the bytes between
+	 *        its position and its limit are used
+	 * @return the snapshot
+	 * @throws IllegalArgumentException if one of the parameters is {@code null}
+	 * @throws ValidationException if the class file of one of the types or of their
+	 *         supertypes, or one of the mapping streams, cannot be read
+	 */
+	public static MetadataSnapshot of(String providerName, Collection<Class<?>> types, Collection<InputStream> mappingStreams,
+			ByteBuffer metadata) {
+		if ( providerName == null || types == null || mappingStreams == null || metadata == null ) {
+			throw new IllegalArgumentException( "The provider name, the types, the mapping streams and the metadata must not be null." );
+		}
+		Map<String, byte[]> classFileHashes = new LinkedHashMap<>();
+		for ( Class<?> type : types ) {
+			hashTypeHierarchy( type, true, classFileHashes );
+		}
+		byte[] mappingsHash = hashMappingStreams( mappingStreams );
+		if ( mappingsHash == null ) {
+			throw new ValidationException( "Unable to read the constraint mapping streams." );
+		}
+		return new MetadataSnapshot( providerName, Collections.unmodifiableMap( classFileHashes ), mappingsHash, metadata.slice() );
+	}
+
+	/**
+	 * Reads a snapshot from a file. The file is memory-mapped, so the metadata is only
+	 * paged in when the provider reads it.
+	 *
+	 * @param path the snapshot file
+	 * @return the snapshot
+	 * @throws ValidationException if the file cannot be read, is not a snapshot or uses an
+	 *         unsupported version of the snapshot format
+	 */
+	public static MetadataSnapshot read(Path path) {
+		try ( FileChannel channel = FileChannel.open( path, StandardOpenOption.READ ) ) {
+			return read( channel.map( FileChannel.MapMode.READ_ONLY, 0, channel.size() ) );
+		}
+		catch (IOException e) {
+			throw new ValidationException( "Unable to read the metadata snapshot " + path + ".", e );
+		}
+	}
+
+	/**
+	 * Reads a snapshot from the bytes between the position and the limit of the given buffer.
+	 * The metadata of the returned snapshot shares its content with the buffer.
+	 *
+	 * @param buffer the snapshot content
+	 * @return the snapshot
+	 * @throws ValidationException if the content is not a snapshot or uses an unsupported
+	 *         version of the snapshot format
+	 */
+	public static MetadataSnapshot read(ByteBuffer buffer) {
+		ByteBuffer content = buffer.slice();
+		try {
+			if ( content.getInt() != MAGIC ) {
+				throw new ValidationException( "The content is not a metadata snapshot." );
+			}
+			int formatVersion = content.getInt();
+			if ( formatVersion != FORMAT_VERSION ) {
+				throw new ValidationException( "Unsupported metadata snapshot format version " + formatVersion
+						+ ", expected " + FORMAT_VERSION + "." );
+			}
+			String providerName = readString( content );
+			int classCount = content.getInt();
+			Map<String, byte[]> classFileHashes = new LinkedHashMap<>();
+			for ( int i = 0; i < classCount; i++ ) {
+				String className = readString( content );
+				byte[] hash = new byte[HASH_LENGTH];
+				content.get( hash );
+				classFileHashes.put( className, hash );
+			}
+			byte[] mappingsHash = new byte[HASH_LENGTH];
+			content.get( mappingsHash );
+			int metadataLength = content.getInt();
+			ByteBuffer metadata = content.slice();
+			if ( metadataLength < 0 || metadataLength > metadata.remaining() ) {
+				throw new ValidationException( "The metadata snapshot is truncated." );
+			}
+			metadata.limit( metadataLength );
+			return new MetadataSnapshot( providerName, Collections.unmodifiableMap( classFileHashes ), mappingsHash, metadata );
+		}
+		catch (BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException e) {
+			throw new ValidationException( "The metadata snapshot is truncated.", e );
+		}
+	}
+
+	/**
+	 * Writes this snapshot to a file, replacing the file if it exists.
+	 *
+	 * @param path the snapshot file
+	 * @throws ValidationException if the file cannot be written
+	 */
+	public void write(Path path) {
+		try {
+			Files.write( path, toBytes() );
+		}
+		catch (IOException e) {
+			throw new ValidationException( "Unable to write the metadata snapshot " + path + ".", e );
+		}
+	}
+
+	/**
+	 * Returns the name of the provider which wrote this snapshot.
+	 *
+	 * @return the provider name
+	 */
+	public String getProviderName() {
+		return providerName;
+	}
+
+	/**
+	 * Returns the names of the types whose metadata is contained in this snapshot, followed by
+	 * the names of their superclasses and implemented interfaces.
+	 *
+	 * @return the type names
+	 */
+	public Set<String> getClassNames() {
+		return classFileHashes.keySet();
+	}
+
+	/**
+	 * Returns the provider specific representation of the metadata.
+	 *
+	 * @return a read-only buffer positioned at the start of the metadata
+	 */
+	public ByteBuffer getMetadata() {
+		return metadata.duplicate();
+	}
+
+	/**
+	 * Returns whether the class files of the types of this snapshot and of their supertypes,
+	 * as seen by the given class loader, and the given constraint mapping streams are the
+	 * ones the snapshot was created from. Providers must not use an outdated snapshot.
+	 * <p>
+	 * The mapping streams are read until their end and then reset.
+	 *
+	 * @param classLoader the class loader the types are loaded from
+	 * @param mappingStreams the constraint mapping streams of the configuration using the
+	 *        snapshot, typically {@link ConfigurationState#getMappingStreams()}; they must
+	 *        support mark/reset (see {@link InputStream#markSupported()})
+	 * @return {@code true} if the class files and the mappings are unchanged, {@code false}
+	 *         if one of them has changed or cannot be read
+	 * @throws IllegalArgumentException if one of the parameters is {@code null}
+	 */
+	public boolean isUpToDate(ClassLoader classLoader, Collection<InputStream> mappingStreams) {
+		if ( classLoader == null || mappingStreams == null ) {
+			throw new IllegalArgumentException( "The class loader and the mapping streams must not be null." );
+		}
+		for ( Map.Entry<String, byte[]> classFileHash : classFileHashes.entrySet() ) {
+			if ( !Arrays.equals( classFileHash.getValue(), hashClassFile( classLoader, classFileHash.getKey() ) ) ) {
+				return false;
+			}
+		}
+		return Arrays.equals( mappingsHash, hashMappingStreams( mappingStreams ) );
+	}
+
+	private byte[] toBytes() {
+		byte[] providerNameBytes = providerName.getBytes( StandardCharsets.UTF_8 );
+		int size = 4 + 4 + 4 + providerNameBytes.length + 4 + HASH_LENGTH + 4 + metadata.remaining();
+		for ( String className : classFileHashes.keySet() ) {
+			size += 4 + className.getBytes( StandardCharsets.UTF_8 ).length + HASH_LENGTH;
+		}
+
+		ByteBuffer content = ByteBuffer.allocate( size );
+		content.putInt( MAGIC );
+		content.putInt( FORMAT_VERSION );
+		writeString( content, providerName );
+		content.putInt( classFileHashes.size() );
+		for ( Map.Entry<String, byte[]> classFileHash : classFileHashes.entrySet() ) {
+			writeString( content, classFileHash.getKey() );
+			content.put( classFileHash.getValue() );
+		}
+		content.put( mappingsHash );
+		content.putInt( metadata.remaining() );
+		content.put( metadata.duplicate() );
+		return content.array();
+	}
+
+	private static void writeString(ByteBuffer content, String value) {
+		byte[] bytes = value.getBytes( StandardCharsets.UTF_8 );
+		content.putInt( bytes.length );
+		content.put( bytes );
+	}
+
+	private static String readString(ByteBuffer content) {
+		byte[] bytes = new byte[content.getInt()];
+		content.get( bytes );
+		return new String( bytes, StandardCharsets.UTF_8 );
+	}
+
+	/**
+	 * Hashes the class file of the given type, unless it is part of the Java runtime, and the
+	 * class files of its superclasses and implemented interfaces.
+	 */
+	private static void hashTypeHierarchy(Class<?> type, boolean requested, Map<String, byte[]> classFileHashes) {
+		if ( type == null || classFileHashes.containsKey( type.getName() ) ) {
+			return;
+		}
+		ClassLoader classLoader = type.getClassLoader();
+		boolean runtimeType = classLoader == null || classLoader == ClassLoader.getPlatformClassLoader();
+		if ( requested || !runtimeType ) {
+			byte[] hash = hashClassFile( classLoader != null ? classLoader : ClassLoader.getSystemClassLoader(), type.getName() );
+			if ( hash == null ) {
+				throw new ValidationException( "Unable to read the class file of " + type.getName() + "." );
+			}
+			classFileHashes.put( type.getName(), hash );
+		}
+		if ( runtimeType ) {
+			return;
+		}
+		hashTypeHierarchy( type.getSuperclass(), false, classFileHashes );
+		for ( Class<?> implementedInterface : type.getInterfaces() ) {
+			hashTypeHierarchy( implementedInterface, false, classFileHashes );
+		}
+	}
+
+	/**
+	 * Returns the SHA-256 hash of the given mapping streams, independent of their order, or
+	 * {@code null} if one of them cannot be read.
+	 */
+	private static byte[] hashMappingStreams(Collection<InputStream> mappingStreams) {
+		try {
+			byte[][] streamHashes = new byte[mappingStreams.size()][];
+			int i = 0;
+			for ( InputStream mappingStream : mappingStreams ) {
+				mappingStream.mark( Integer.MAX_VALUE );
+				streamHashes[i++] = hash( mappingStream );
+				mappingStream.reset();
+			}
+			Arrays.sort( streamHashes, Arrays::compare );
+			MessageDigest messageDigest = newMessageDigest();
+			for ( byte[] streamHash : streamHashes ) {
+				messageDigest.update( streamHash );
+			}
+			return messageDigest.digest();
+		}
+		catch (IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the SHA-256 hash of the class file of the given type or {@code null} if the class
+	 * file cannot be found.
+	 */
+	private static byte[] hashClassFile(ClassLoader classLoader, String className) {
+		try ( InputStream classFile = classLoader.getResourceAsStream( className.replace( '.', '/' ) + ".class" ) ) {
+			if ( classFile == null ) {
+				return null;
+			}
+			return hash( classFile );
+		}
+		catch (IOException e) {
+			return null;
+		}
+	}
+
+	private static byte[] hash(InputStream content) throws IOException {
+		MessageDigest messageDigest = newMessageDigest();
+		byte[] buffer = new byte[8192];
+		int read;
+		while ( ( read = content.read( buffer ) ) != -1 ) {
+			messageDigest.update( buffer, 0, read );
+		}
+		return messageDigest.digest();
+	}
+
+	private static MessageDigest newMessageDigest() {
+		try {
+			return MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new ValidationException( "Unable to hash the snapshot content.", e );
+		}
+	}
+}
@@ -6,6 +6,10 @@
  */
 package jakarta.validation.spi;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
 import jakarta.validation.Configuration;
 import jakarta.validation.ValidationException;
 import jakarta.validation.ValidationProviderResolver;
@@ -63,4 +67,45 @@ public interface ValidationProvider<T extends Configuration<T>> {
 	 * @throws ValidationException if the {@code ValidatorFactory} cannot be built
 	 */
 	ValidatorFactory buildValidatorFactory(ConfigurationState configurationState);
+
+	/**
+	 * Build a {@link ValidatorFactory} asynchronously using the current provider
+	 * implementation and the given {@link Executor}.
+	 * <p>
+	 * The {@code ValidatorFactory} is assembled and follows the configuration passed
+	 * via {@link ConfigurationState}, which must not be modified until the returned
+	 * stage has completed. The {@code ValidatorFactory} is built with the context class
+	 * loader of the calling thread as the context class loader.
+	 *
+	 * @param configurationState the configuration descriptor
+	 * @param executor the executor used to build the {@code ValidatorFactory}
+	 * @return a stage completed with the instantiated {@code ValidatorFactory}, or completed
+	 *         exceptionally with a {@link java.util.concurrent.CompletionException} whose cause
+	 *         is the {@link ValidationException} raised if the {@code ValidatorFactory} cannot
+	 *         be built
+	 * @throws IllegalArgumentException if {@code executor} is {@code null}
+	 *
+	 * @implNote The default implementation invokes {@link #buildValidatorFactory(ConfigurationState)}
+	 *          in a task submitted to {@code executor}. Implementations may override this method
+	 *          to parallelize the work further, e.g. the parsing of the mapping streams.
+	 * @since 4.0
+	 */
+	default CompletionStage<ValidatorFactory> buildValidatorFactoryAsync(ConfigurationState configurationState,
+			Executor executor) {
+		if ( executor == null ) {
+			throw new IllegalArgumentException( "The executor must not be null." );
+		}
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		return CompletableFuture.supplyAsync( () -> {
+			Thread thread = Thread.currentThread();
+			ClassLoader executorContextClassLoader = thread.getContextClassLoader();
+			thread.setContextClassLoader( contextClassLoader );
+			try {
+				return buildValidatorFactory( configurationState );
+			}
+			finally {
+				thread.setContextClassLoader( executorContextClassLoader );
+			}
+		}, executor );
+	}
 }
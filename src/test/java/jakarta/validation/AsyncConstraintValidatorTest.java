@@ -0,0 +1,95 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.testng.annotations.Test;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Tests for the default methods of {@link AsyncConstraintValidator} and
+ * {@link Validator#validateAsync(Object, Class[])}.
+ */
+public class AsyncConstraintValidatorTest {
+
+	@Test
+	public void testIsValidWaitsForTheAsynchronousResult() {
+		NotBlankAsyncValidator validator = new NotBlankAsyncValidator();
+
+		assertTrue( validator.isValid( "a", null ) );
+		assertFalse( validator.isValid( "", null ) );
+	}
+
+	@Test(expectedExceptions = ValidationException.class)
+	public void testIsValidWrapsFailures() {
+		new NotBlankAsyncValidator().isValid( null, null );
+	}
+
+	@Test(expectedExceptions = ValidationException.class)
+	public void testIsValidRejectsCancelledEvaluation() {
+		StubAsyncValidator validator = new StubAsyncValidator( new CompletableFuture<>() );
+		validator.result.cancel( false );
+
+		validator.isValid( "a", null );
+	}
+
+	@Test(expectedExceptions = ValidationException.class)
+	public void testIsValidRejectsNullResult() {
+		new StubAsyncValidator( CompletableFuture.completedFuture( null ) ).isValid( "a", null );
+	}
+
+	@Test(expectedExceptions = ValidationException.class)
+	public void testIsValidRejectsNullStage() {
+		new StubAsyncValidator( null ).isValid( "a", null );
+	}
+
+	@Test
+	public void testValidateAsyncDelegatesToValidate() throws Exception {
+		PredicateValidator validator = new PredicateValidator( object -> !"".equals( object ) );
+
+		assertEquals( validator.validateAsync( "" ).toCompletableFuture().get().size(), 1 );
+		assertTrue( validator.validateAsync( "a" ).toCompletableFuture().get().isEmpty() );
+	}
+
+	@Test
+	public void testValidateAsyncCompletesExceptionallyOnValidationFailure() {
+		PredicateValidator validator = new PredicateValidator( object -> {
+			throw new ValidationException( "failure" );
+		} );
+
+		assertTrue( validator.validateAsync( "a" ).toCompletableFuture().isCompletedExceptionally() );
+	}
+
+	private static class NotBlankAsyncValidator implements AsyncConstraintValidator<NotNull, String> {
+
+		@Override
+		public CompletionStage<Boolean> isValidAsync(String value, ConstraintValidatorContext context) {
+			return CompletableFuture.supplyAsync( () -> !value.isBlank() );
+		}
+	}
+
+	private static class StubAsyncValidator implements AsyncConstraintValidator<NotNull, String> {
+
+		private final CompletableFuture<Boolean> result;
+
+		private StubAsyncValidator(CompletableFuture<Boolean> result) {
+			this.result = result;
+		}
+
+		@Override
+		public CompletionStage<Boolean> isValidAsync(String value, ConstraintValidatorContext context) {
+			return result;
+		}
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link BatchValidationResult} and the batch validation methods of {@link Validator}.
+ */
+public class BatchValidationResultTest {
+
+	@Test
+	public void testOnlyFailingIndicesCarryViolations() {
+		Set<ConstraintViolation<String>> violations = Collections.singleton( new DummyConstraintViolation<>( "invalid" ) );
+
+		BatchValidationResult<String> result = BatchValidationResult.<String>builder()
+				.add( Collections.emptySet() )
+				.add( violations )
+				.add( Collections.emptySet() )
+				.add( violations )
+				.build();
+
+		assertEquals( result.size(), 4 );
+		assertFalse( result.isValid() );
+		assertEquals( result.getFailingIndices(), new int[] { 1, 3 } );
+		assertTrue( result.isValid( 0 ) );
+		assertFalse( result.isValid( 1 ) );
+		assertTrue( result.getViolations( 2 ).isEmpty() );
+		assertEquals( result.getViolations( 3 ), violations );
+	}
+
+	@Test
+	public void testAddAllShiftsIndices() {
+		Set<ConstraintViolation<String>> violations = Collections.singleton( new DummyConstraintViolation<>( "invalid" ) );
+		BatchValidationResult<String> chunk = BatchValidationResult.<String>builder()
+				.add( violations )
+				.add( Collections.emptySet() )
+				.build();
+
+		BatchValidationResult<String> result = BatchValidationResult.<String>builder()
+				.addAll( chunk )
+				.addAll( chunk )
+				.add( Collections.emptySet() )
+				.build();
+
+		assertEquals( result.size(), 5 );
+		assertEquals( result.getFailingIndices(), new int[] { 0, 2 } );
+	}
+
+	@Test
+	public void testEmptyBatchIsValid() {
+		BatchValidationResult<String> result = BatchValidationResult.<String>builder().build();
+
+		assertEquals( result.size(), 0 );
+		assertTrue( result.isValid() );
+		assertEquals( result.getFailingIndices().length, 0 );
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void testIndexOutOfBounds() {
+		BatchValidationResult.<String>builder().add( Collections.emptySet() ).build().getViolations( 1 );
+	}
+
+	@Test
+	public void testValidateAllValidatesEachObjectInOrder() {
+		PredicateValidator validator = new PredicateValidator( object -> !( (String) object ).isEmpty() );
+
+		BatchValidationResult<String> result = validator.validateAll( Arrays.asList( "a", "", "b", "" ) );
+
+		assertEquals( validator.getValidateCount(), 4 );
+		assertEquals( result.size(), 4 );
+		assertEquals( result.getFailingIndices(), new int[] { 1, 3 } );
+		assertEquals( result.getViolations( 1 ).iterator().next().getMessage(), "invalid: " );
+	}
+
+	@Test
+	public void testParallelValidateAllMergesChunksInInputOrder() throws Exception {
+		PredicateValidator validator = new PredicateValidator( object -> (Integer) object % 3 != 0 );
+		List<Integer> objects = new ArrayList<>();
+		for ( int i = 1; i <= 100; i++ ) {
+			objects.add( i );
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool( 4 );
+		try {
+			BatchValidationResult<Integer> result = validator.validateAll( objects, executor, 7 ).toCompletableFuture().get();
+
+			assertEquals( validator.getValidateCount(), 100 );
+			assertEquals( result.size(), 100 );
+			assertEquals( result.getFailingIndices().length, 33 );
+			for ( int index : result.getFailingIndices() ) {
+				assertEquals( ( index + 1 ) % 3, 0 );
+			}
+			assertEquals( result.getViolations( 2 ).iterator().next().getMessage(), "invalid: 3" );
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testParallelValidateAllRejectsInvalidChunkSize() {
+		new PredicateValidator( object -> true ).validateAll( Collections.singletonList( "a" ), Runnable::run, 0 );
+	}
+}
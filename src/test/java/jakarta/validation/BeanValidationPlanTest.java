@@ -0,0 +1,63 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.testng.annotations.Test;
+
+import jakarta.validation.groups.Default;
+
+/**
+ * Tests for the default implementation of {@link Validator#compile(Class, Class[])}.
+ */
+public class BeanValidationPlanTest {
+
+	@Test
+	public void testPlanDelegatesToValidator() {
+		PredicateValidator validator = new PredicateValidator( object -> !( (String) object ).isEmpty() );
+
+		BeanValidationPlan<String> plan = validator.compile( String.class, Default.class );
+
+		assertEquals( plan.getBeanClass(), String.class );
+		assertEquals( plan.getGroups(), Collections.singletonList( Default.class ) );
+		assertTrue( plan.isValid( "a" ) );
+		assertFalse( plan.isValid( "" ) );
+		assertEquals( plan.validate( "" ).size(), 1 );
+		assertEquals( validator.getValidateCount(), 3 );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void testPlanRejectsInstancesOfOtherTypes() {
+		BeanValidationPlan plan = new PredicateValidator( object -> true ).compile( String.class );
+
+		plan.validate( 1 );
+	}
+
+	@Test
+	public void testPlanIsNotAffectedByChangesToGroupsArray() {
+		PredicateValidator validator = new PredicateValidator( object -> true );
+		Class<?>[] groups = { Default.class };
+
+		BeanValidationPlan<String> plan = validator.compile( String.class, groups );
+		groups[0] = BeanValidationPlanTest.class;
+
+		plan.validate( "a" );
+		assertEquals( validator.getLastGroups(), Collections.singletonList( Default.class ) );
+		assertEquals( plan.getGroups(), Collections.singletonList( Default.class ) );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testCompileRejectsNullGroup() {
+		new PredicateValidator( object -> true ).compile( String.class, (Class<?>) null );
+	}
+}
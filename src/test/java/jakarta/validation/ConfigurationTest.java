@@ -0,0 +1,165 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.annotations.Test;
+
+import jakarta.validation.spi.ConfigurationState;
+
+public class ConfigurationTest {
+
+	@Test
+	public void testFailFastIsDisabledByDefault() {
+		assertFalse( new StatefulConfiguration().isFailFast() );
+	}
+
+	@Test
+	public void testFailFastIsExposedAsProperty() {
+		StatefulConfiguration configuration = new StatefulConfiguration().failFast( true );
+
+		assertEquals( configuration.getProperties().get( Configuration.FAIL_FAST_PROPERTY ), "true" );
+		assertTrue( configuration.isFailFast() );
+
+		configuration.failFast( false );
+		assertFalse( configuration.isFailFast() );
+	}
+
+	@Test
+	public void testFailFastCanBeEnabledAsProperty() {
+		StatefulConfiguration configuration = new StatefulConfiguration().addProperty( Configuration.FAIL_FAST_PROPERTY, "true" );
+
+		assertTrue( configuration.isFailFast() );
+	}
+
+	@Test
+	public void testFailFastPropertyIgnoresCase() {
+		assertTrue( new StatefulConfiguration().addProperty( Configuration.FAIL_FAST_PROPERTY, " TRUE " ).isFailFast() );
+		assertFalse( new StatefulConfiguration().addProperty( Configuration.FAIL_FAST_PROPERTY, "False" ).isFailFast() );
+	}
+
+	@Test(expectedExceptions = ValidationException.class)
+	public void testInvalidFailFastPropertyIsRejected() {
+		new StatefulConfiguration().addProperty( Configuration.FAIL_FAST_PROPERTY, "yes" ).isFailFast();
+	}
+
+	@Test
+	public void testMaxViolationsIsNotLimitedByDefault() {
+		assertEquals( new StatefulConfiguration().getMaxViolations(), Integer.MAX_VALUE );
+	}
+
+	@Test
+	public void testMaxViolationsIsExposedAsProperty() {
+		StatefulConfiguration configuration = new StatefulConfiguration().maxViolations( 100 );
+
+		assertEquals( configuration.getProperties().get( Configuration.MAX_VIOLATIONS_PROPERTY ), "100" );
+		assertEquals( configuration.getMaxViolations(), 100 );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testMaxViolationsMustBePositive() {
+		new StatefulConfiguration().maxViolations( 0 );
+	}
+
+	@Test(expectedExceptions = ValidationException.class)
+	public void testInvalidMaxViolationsPropertyIsRejected() {
+		new StatefulConfiguration().addProperty( Configuration.MAX_VIOLATIONS_PROPERTY, "many" ).getMaxViolations();
+	}
+
+	@Test
+	public void testValidatorFactoryIsBuiltAsynchronouslyWithCallerContextClassLoader() throws Exception {
+		AtomicReference<ClassLoader> buildContextClassLoader = new AtomicReference<>();
+		StatefulConfiguration configuration = new StatefulConfiguration() {
+
+			@Override
+			public ValidatorFactory buildValidatorFactory() {
+				buildContextClassLoader.set( Thread.currentThread().getContextClassLoader() );
+				return super.buildValidatorFactory();
+			}
+		};
+		assertSame( buildWithContextClassLoader( executor -> configuration.buildValidatorFactoryAsync( executor ) ),
+				buildContextClassLoader.get() );
+	}
+
+	@Test
+	public void testValidatorFactoryIsBuiltAsynchronouslyByProviderWithCallerContextClassLoader() throws Exception {
+		AtomicReference<ClassLoader> buildContextClassLoader = new AtomicReference<>();
+		NonRegisteredValidationProvider provider = new NonRegisteredValidationProvider() {
+
+			@Override
+			public ValidatorFactory buildValidatorFactory(ConfigurationState configurationState) {
+				buildContextClassLoader.set( Thread.currentThread().getContextClassLoader() );
+				return null;
+			}
+		};
+		assertSame( buildWithContextClassLoader( executor -> provider.buildValidatorFactoryAsync( new StatefulConfiguration(), executor ) ),
+				buildContextClassLoader.get() );
+	}
+
+	@Test
+	public void testAsynchronousBuildFailureIsWrappedInCompletionException() {
+		StatefulConfiguration configuration = new StatefulConfiguration() {
+
+			@Override
+			public ValidatorFactory buildValidatorFactory() {
+				throw new ValidationException( "Invalid mapping." );
+			}
+		};
+		try {
+			configuration.buildValidatorFactoryAsync( Runnable::run ).toCompletableFuture().join();
+			fail( "The build should have failed." );
+		}
+		catch (CompletionException e) {
+			assertTrue( e.getCause() instanceof ValidationException );
+		}
+	}
+
+	/**
+	 * Runs the given asynchronous build with a custom context class loader, on a thread having another context class
+	 * loader, and returns the custom context class loader.
+	 */
+	private static ClassLoader buildWithContextClassLoader(AsyncBuild build) throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		Thread thread = Thread.currentThread();
+		ClassLoader contextClassLoader = thread.getContextClassLoader();
+		ClassLoader customClassLoader = new URLClassLoader( new URL[0], contextClassLoader );
+		try {
+			// start the executor thread first, as a thread inherits the context class loader of its creator
+			executor.submit( () -> { } ).get( 30, TimeUnit.SECONDS );
+			thread.setContextClassLoader( customClassLoader );
+			build.build( executor ).toCompletableFuture().get( 30, TimeUnit.SECONDS );
+			// the context class loader of the executor thread is restored
+			assertSame( executor.submit( () -> Thread.currentThread().getContextClassLoader() ).get( 30, TimeUnit.SECONDS ),
+					contextClassLoader );
+			return customClassLoader;
+		}
+		finally {
+			thread.setContextClassLoader( contextClassLoader );
+			executor.shutdownNow();
+		}
+	}
+
+	private interface AsyncBuild {
+
+		CompletionStage<ValidatorFactory> build(Executor executor);
+	}
+}
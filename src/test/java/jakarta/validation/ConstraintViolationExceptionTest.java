@@ -13,8 +13,6 @@ import org.testng.annotations.Test;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
-import jakarta.validation.Path;
-import jakarta.validation.metadata.ConstraintDescriptor;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNull;
@@ -67,65 +65,4 @@ public class ConstraintViolationExceptionTest {
 		assertNull( constraintViolationException.getConstraintViolations() );
 		assertNull( constraintViolationException.getMessage() );
 	}
-
-	/**
-	 * @author Gunnar Morling
-	 */
-	private static class DummyConstraintViolation<T> implements ConstraintViolation<T> {
-
-		@Override
-		public String getMessage() {
-			return null;
-		}
-
-		@Override
-		public String getMessageTemplate() {
-			return null;
-		}
-
-		@Override
-		public T getRootBean() {
-			return null;
-		}
-
-		@Override
-		public Class<T> getRootBeanClass() {
-			return null;
-		}
-
-		@Override
-		public Object getLeafBean() {
-			return null;
-		}
-
-		@Override
-		public Object[] getExecutableParameters() {
-			return new Object[0];
-		}
-
-		@Override
-		public Object getExecutableReturnValue() {
-			return null;
-		}
-
-		@Override
-		public Path getPropertyPath() {
-			return null;
-		}
-
-		@Override
-		public Object getInvalidValue() {
-			return null;
-		}
-
-		@Override
-		public ConstraintDescriptor<?> getConstraintDescriptor() {
-			return null;
-		}
-
-		@Override
-		public <U> U unwrap(Class<U> type) {
-			return null;
-		}
-	}
 }
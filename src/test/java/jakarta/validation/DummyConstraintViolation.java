@@ -0,0 +1,82 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+/**
+ * A constraint violation returning nothing but its message, for tests.
+ *
+ * @author Gunnar Morling
+ */
+class DummyConstraintViolation<T> implements ConstraintViolation<T> {
+
+	private final String message;
+
+	DummyConstraintViolation() {
+		this( null );
+	}
+
+	DummyConstraintViolation(String message) {
+		this.message = message;
+	}
+
+	@Override
+	public String getMessage() {
+		return message;
+	}
+
+	@Override
+	public String getMessageTemplate() {
+		return null;
+	}
+
+	@Override
+	public T getRootBean() {
+		return null;
+	}
+
+	@Override
+	public Class<T> getRootBeanClass() {
+		return null;
+	}
+
+	@Override
+	public Object getLeafBean() {
+		return null;
+	}
+
+	@Override
+	public Object[] getExecutableParameters() {
+		return new Object[0];
+	}
+
+	@Override
+	public Object getExecutableReturnValue() {
+		return null;
+	}
+
+	@Override
+	public Path getPropertyPath() {
+		return null;
+	}
+
+	@Override
+	public Object getInvalidValue() {
+		return null;
+	}
+
+	@Override
+	public ConstraintDescriptor<?> getConstraintDescriptor() {
+		return null;
+	}
+
+	@Override
+	public <U> U unwrap(Class<U> type) {
+		return null;
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import jakarta.validation.executable.ExecutableValidator;
+import jakarta.validation.metadata.BeanDescriptor;
+
+/**
+ * A validator reporting one constraint violation for the objects, or the property values,
+ * not matching a predicate, to test the default methods of {@link Validator}. Properties
+ * are not read: validating a property validates the object itself.
+ */
+class PredicateValidator implements Validator {
+
+	private final Predicate<Object> valid;
+
+	private final AtomicInteger validateCount = new AtomicInteger();
+
+	private volatile List<Class<?>> lastGroups = Collections.emptyList();
+
+	PredicateValidator(Predicate<Object> valid) {
+		this.valid = valid;
+	}
+
+	int getValidateCount() {
+		return validateCount.get();
+	}
+
+	List<Class<?>> getLastGroups() {
+		return lastGroups;
+	}
+
+	@Override
+	public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+		if ( object == null ) {
+			throw new IllegalArgumentException( "The object to validate must not be null." );
+		}
+		validateCount.incrementAndGet();
+		lastGroups = Arrays.asList( groups.clone() );
+		if ( valid.test( object ) ) {
+			return Collections.emptySet();
+		}
+		return Collections.singleton( new DummyConstraintViolation<>( "invalid: " + object ) );
+	}
+
+	@Override
+	public <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+		return validate( object, groups );
+	}
+
+	@Override
+	public <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, String propertyName, Object value, Class<?>... groups) {
+		validateCount.incrementAndGet();
+		lastGroups = Arrays.asList( groups.clone() );
+		if ( valid.test( value ) ) {
+			return Collections.emptySet();
+		}
+		return Collections.singleton( new DummyConstraintViolation<>( propertyName + " invalid: " + value ) );
+	}
+
+	@Override
+	public BeanDescriptor getConstraintsForClass(Class<?> clazz) {
+		throw new UnsupportedOperationException( "Not implemented" );
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> type) {
+		throw new UnsupportedOperationException( "Not implemented" );
+	}
+
+	@Override
+	public ExecutableValidator forExecutables() {
+		throw new UnsupportedOperationException( "Not implemented" );
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.testng.annotations.Test;
+
+import jakarta.validation.groups.Default;
+
+/**
+ * Tests for the default implementation of {@link Validator#forProperty(Class, String, Class, Class[])}.
+ */
+public class PropertyValidatorTest {
+
+	@Test
+	public void testHandleDelegatesToValidator() {
+		PredicateValidator validator = new PredicateValidator( object -> !object.toString().isEmpty() );
+
+		PropertyValidator<StringBuilder, String> property = validator.forProperty( StringBuilder.class, "text", String.class );
+
+		assertEquals( property.getBeanClass(), StringBuilder.class );
+		assertEquals( property.getPropertyName(), "text" );
+		assertTrue( property.getGroups().isEmpty() );
+		assertTrue( property.validateValue( "a" ).isEmpty() );
+		assertEquals( property.validateValue( "" ).iterator().next().getMessage(), "text invalid: " );
+		assertEquals( property.validateProperty( new StringBuilder() ).size(), 1 );
+		assertEquals( validator.getValidateCount(), 3 );
+	}
+
+	@Test
+	public void testHandleIsNotAffectedByChangesToGroupsArray() {
+		PredicateValidator validator = new PredicateValidator( object -> true );
+		Class<?>[] groups = { Default.class };
+
+		PropertyValidator<StringBuilder, String> property = validator.forProperty( StringBuilder.class, "text", String.class, groups );
+		groups[0] = PropertyValidatorTest.class;
+
+		property.validateValue( "a" );
+		assertEquals( validator.getLastGroups(), Collections.singletonList( Default.class ) );
+		property.validateProperty( new StringBuilder() );
+		assertEquals( validator.getLastGroups(), Collections.singletonList( Default.class ) );
+		assertEquals( property.getGroups(), Collections.singletonList( Default.class ) );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testEmptyPropertyNameIsRejected() {
+		new PredicateValidator( object -> true ).forProperty( StringBuilder.class, "", String.class );
+	}
+}
@@ -0,0 +1,274 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.util.Collections;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class SharedValidatorFactoryTest {
+
+	@BeforeMethod
+	public void resetCounters() {
+		StatefulConfiguration.builtFactories.set( 0 );
+		StatefulConfiguration.closedFactories.set( 0 );
+		StatefulConfiguration.writtenMetadataSnapshots.set( 0 );
+		StatefulConfiguration.warmUps.set( 0 );
+	}
+
+	@Test
+	public void testEquivalentConfigurationsShareFactory() {
+		ValidatorFactory first = Validation.buildSharedValidatorFactory(
+				new StatefulConfiguration().addProperty( "com.acme.validation.safetyChecking", "failOnError" )
+		);
+		ValidatorFactory second = Validation.buildSharedValidatorFactory(
+				new StatefulConfiguration().addProperty( "com.acme.validation.safetyChecking", "failOnError" )
+		);
+
+		assertEquals( StatefulConfiguration.builtFactories.get(), 1 );
+		assertSame( first.unwrap( ValidatorFactory.class ), second.unwrap( ValidatorFactory.class ) );
+
+		first.close();
+		assertEquals( StatefulConfiguration.closedFactories.get(), 0 );
+
+		// closing a handle twice does not release the shared factory twice
+		first.close();
+		assertEquals( StatefulConfiguration.closedFactories.get(), 0 );
+
+		second.close();
+		assertEquals( StatefulConfiguration.closedFactories.get(), 1 );
+
+		// the factory is rebuilt once all the handles have been closed
+		ValidatorFactory third = Validation.buildSharedValidatorFactory(
+				new StatefulConfiguration().addProperty( "com.acme.validation.safetyChecking", "failOnError" )
+		);
+		assertEquals( StatefulConfiguration.builtFactories.get(), 2 );
+		third.close();
+	}
+
+	@Test
+	public void testDifferentConfigurationsDoNotShareFactory() {
+		ValidatorFactory first = Validation.buildSharedValidatorFactory(
+				new StatefulConfiguration().addProperty( "com.acme.validation.safetyChecking", "failOnError" )
+		);
+		ValidatorFactory second = Validation.buildSharedValidatorFactory(
+				new StatefulConfiguration().addProperty( "com.acme.validation.safetyChecking", "ignore" )
+		);
+		ValidatorFactory third = Validation.buildSharedValidatorFactory(
+				new StatefulConfiguration().addProperty( "com.acme.validation.safetyChecking", "failOnError" )
+						.ignoreXmlConfiguration()
+		);
+
+		assertEquals( StatefulConfiguration.builtFactories.get(), 3 );
+		assertNotSame( first.unwrap( ValidatorFactory.class ), second.unwrap( ValidatorFactory.class ) );
+		assertNotSame( first.unwrap( ValidatorFactory.class ), third.unwrap( ValidatorFactory.class ) );
+
+		first.close();
+		second.close();
+		third.close();
+		assertEquals( StatefulConfiguration.closedFactories.get(), 3 );
+	}
+
+	@Test
+	public void testMappingStreamsAreComparedByContent() throws Exception {
+		try ( InputStream firstMapping = mapping( "com.acme.Order" );
+				InputStream secondMapping = mapping( "com.acme.Order" );
+				InputStream otherMapping = mapping( "com.acme.Customer" ) ) {
+			ValidatorFactory first = Validation.buildSharedValidatorFactory( new StatefulConfiguration().addMapping( firstMapping ) );
+			ValidatorFactory second = Validation.buildSharedValidatorFactory( new StatefulConfiguration().addMapping( secondMapping ) );
+			ValidatorFactory other = Validation.buildSharedValidatorFactory( new StatefulConfiguration().addMapping( otherMapping ) );
+
+			assertEquals( StatefulConfiguration.builtFactories.get(), 2 );
+			assertSame( first.unwrap( ValidatorFactory.class ), second.unwrap( ValidatorFactory.class ) );
+
+			// the streams can still be read by the provider
+			assertEquals( firstMapping.read(), '<' );
+
+			first.close();
+			second.close();
+			other.close();
+		}
+	}
+
+	@Test
+	public void testComponentsAreComparedByIdentity() {
+		ClockProvider clockProvider = Clock::systemUTC;
+		ValidatorFactory first = Validation.buildSharedValidatorFactory( new StatefulConfiguration().clockProvider( clockProvider ) );
+		ValidatorFactory second = Validation.buildSharedValidatorFactory( new StatefulConfiguration().clockProvider( clockProvider ) );
+		ValidatorFactory other = Validation.buildSharedValidatorFactory( new StatefulConfiguration().clockProvider( Clock::systemUTC ) );
+
+		assertEquals( StatefulConfiguration.builtFactories.get(), 2 );
+		assertSame( first.unwrap( ValidatorFactory.class ), second.unwrap( ValidatorFactory.class ) );
+		assertNotSame( first.unwrap( ValidatorFactory.class ), other.unwrap( ValidatorFactory.class ) );
+
+		first.close();
+		second.close();
+		other.close();
+	}
+
+	@Test
+	public void testContextClassLoaderIsComparedByIdentity() {
+		ValidatorFactory first = Validation.buildSharedValidatorFactory( new StatefulConfiguration() );
+
+		Thread thread = Thread.currentThread();
+		ClassLoader contextClassLoader = thread.getContextClassLoader();
+		ValidatorFactory other;
+		try {
+			thread.setContextClassLoader( new URLClassLoader( new URL[0], contextClassLoader ) );
+			other = Validation.buildSharedValidatorFactory( new StatefulConfiguration() );
+		}
+		finally {
+			thread.setContextClassLoader( contextClassLoader );
+		}
+
+		assertEquals( StatefulConfiguration.builtFactories.get(), 2 );
+		assertNotSame( first.unwrap( ValidatorFactory.class ), other.unwrap( ValidatorFactory.class ) );
+
+		first.close();
+		other.close();
+	}
+
+	@Test
+	public void testDefaultComponentsAreComparedByClass() {
+		ValidatorFactory first = Validation.buildSharedValidatorFactory( new StatefulConfiguration() );
+		ValidatorFactory second = Validation.buildSharedValidatorFactory( new StatefulConfiguration() );
+
+		assertEquals( StatefulConfiguration.builtFactories.get(), 1 );
+		assertSame( first.unwrap( ValidatorFactory.class ), second.unwrap( ValidatorFactory.class ) );
+
+		first.close();
+		second.close();
+	}
+
+	@Test
+	public void testXmlDeclaredComponentsAreComparedByClass() {
+		ValidatorFactory first = Validation.buildSharedValidatorFactory( new XmlConfiguration() );
+		ValidatorFactory second = Validation.buildSharedValidatorFactory( new XmlConfiguration() );
+
+		assertEquals( StatefulConfiguration.builtFactories.get(), 1 );
+		assertSame( first.unwrap( ValidatorFactory.class ), second.unwrap( ValidatorFactory.class ) );
+
+		// the same class set by the caller is still compared by identity
+		ValidatorFactory other = Validation.buildSharedValidatorFactory(
+				new StatefulConfiguration().clockProvider( new XmlClockProvider() )
+		);
+		assertEquals( StatefulConfiguration.builtFactories.get(), 2 );
+
+		first.close();
+		second.close();
+		other.close();
+	}
+
+	@Test
+	public void testMappingStreamsOfReusingConfigurationAreLeftOpen() {
+		CloseTrackingInputStream firstMapping = new CloseTrackingInputStream( "com.acme.Order" );
+		CloseTrackingInputStream secondMapping = new CloseTrackingInputStream( "com.acme.Order" );
+
+		ValidatorFactory first = Validation.buildSharedValidatorFactory( new StatefulConfiguration().addMapping( firstMapping ) );
+		ValidatorFactory second = Validation.buildSharedValidatorFactory( new StatefulConfiguration().addMapping( secondMapping ) );
+
+		assertEquals( StatefulConfiguration.builtFactories.get(), 1 );
+		assertFalse( firstMapping.closed );
+		assertFalse( secondMapping.closed );
+
+		first.close();
+		second.close();
+	}
+
+	@Test
+	public void testWarmUpIsDoneBySharedFactory() {
+		ValidatorFactory factory = Validation.buildSharedValidatorFactory( new StatefulConfiguration() );
+
+		factory.warmUp( Collections.singletonList( SharedValidatorFactoryTest.class ), Runnable::run );
+
+		assertEquals( StatefulConfiguration.warmUps.get(), 1 );
+		factory.close();
+	}
+
+	@Test
+	public void testMetadataSnapshotIsWrittenBySharedFactory() {
+		ValidatorFactory factory = Validation.buildSharedValidatorFactory( new StatefulConfiguration() );
+
+		factory.writeMetadataSnapshot( Collections.singletonList( SharedValidatorFactoryTest.class ), Paths.get( "metadata.snapshot" ) );
+
+		assertEquals( StatefulConfiguration.writtenMetadataSnapshots.get(), 1 );
+		factory.close();
+	}
+
+	@Test(expectedExceptions = ValidationException.class)
+	public void testConfigurationWithoutStateCannotBeShared() {
+		Validation.buildSharedValidatorFactory( new FooValidationProvider.DummyConfiguration() );
+	}
+
+	private static InputStream mapping(String beanClass) {
+		return new ByteArrayInputStream(
+				( "<constraint-mappings><bean class=\"" + beanClass + "\"/></constraint-mappings>" ).getBytes( StandardCharsets.UTF_8 )
+		);
+	}
+
+	private static class CloseTrackingInputStream extends ByteArrayInputStream {
+
+		private boolean closed;
+
+		private CloseTrackingInputStream(String beanClass) {
+			super( ( "<constraint-mappings><bean class=\"" + beanClass + "\"/></constraint-mappings>" ).getBytes( StandardCharsets.UTF_8 ) );
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+		}
+	}
+
+	public static class XmlClockProvider implements ClockProvider {
+
+		@Override
+		public Clock getClock() {
+			return Clock.systemUTC();
+		}
+	}
+
+	/**
+	 * A configuration declaring its clock provider in {@code META-INF/validation.xml}, which the provider
+	 * instantiates for each configuration.
+	 */
+	private static class XmlConfiguration extends StatefulConfiguration {
+
+		private XmlConfiguration() {
+			clockProvider( new XmlClockProvider() );
+		}
+
+		@Override
+		public BootstrapConfiguration getBootstrapConfiguration() {
+			return (BootstrapConfiguration) Proxy.newProxyInstance(
+					BootstrapConfiguration.class.getClassLoader(),
+					new Class<?>[] { BootstrapConfiguration.class },
+					(proxy, method, args) -> {
+						if ( method.getName().equals( "getClockProviderClassName" ) ) {
+							return XmlClockProvider.class.getName();
+						}
+						return method.getReturnType() == boolean.class ? false : null;
+					}
+			);
+		}
+	}
+}
@@ -0,0 +1,209 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.validation.spi.ConfigurationState;
+import jakarta.validation.valueextraction.ValueExtractor;
+
+/**
+ * A {@link Configuration} exposing its {@link ConfigurationState}, as provider implementations typically do.
+ */
+public class StatefulConfiguration implements Configuration<StatefulConfiguration>, ConfigurationState {
+
+	public static final AtomicInteger builtFactories = new AtomicInteger();
+	public static final AtomicInteger closedFactories = new AtomicInteger();
+	public static final AtomicInteger writtenMetadataSnapshots = new AtomicInteger();
+	public static final AtomicInteger warmUps = new AtomicInteger();
+
+	private boolean ignoreXmlConfiguration;
+	private MessageInterpolator messageInterpolator;
+	private TraversableResolver traversableResolver;
+	private ConstraintValidatorFactory constraintValidatorFactory;
+	private ParameterNameProvider parameterNameProvider;
+	private ClockProvider clockProvider;
+	private final ClockProvider defaultClockProvider = new DefaultClockProvider();
+	private final Set<ValueExtractor<?>> valueExtractors = new HashSet<>();
+	private final Set<InputStream> mappingStreams = new HashSet<>();
+	private final Map<String, String> properties = new HashMap<>();
+
+	@Override
+	public StatefulConfiguration ignoreXmlConfiguration() {
+		ignoreXmlConfiguration = true;
+		return this;
+	}
+
+	@Override
+	public StatefulConfiguration messageInterpolator(MessageInterpolator interpolator) {
+		this.messageInterpolator = interpolator;
+		return this;
+	}
+
+	@Override
+	public StatefulConfiguration traversableResolver(TraversableResolver resolver) {
+		this.traversableResolver = resolver;
+		return this;
+	}
+
+	@Override
+	public StatefulConfiguration constraintValidatorFactory(ConstraintValidatorFactory constraintValidatorFactory) {
+		this.constraintValidatorFactory = constraintValidatorFactory;
+		return this;
+	}
+
+	@Override
+	public StatefulConfiguration parameterNameProvider(ParameterNameProvider parameterNameProvider) {
+		this.parameterNameProvider = parameterNameProvider;
+		return this;
+	}
+
+	@Override
+	public StatefulConfiguration clockProvider(ClockProvider clockProvider) {
+		this.clockProvider = clockProvider;
+		return this;
+	}
+
+	@Override
+	public StatefulConfiguration addValueExtractor(ValueExtractor<?> extractor) {
+		valueExtractors.add( extractor );
+		return this;
+	}
+
+	@Override
+	public StatefulConfiguration addMapping(InputStream stream) {
+		mappingStreams.add( stream );
+		return this;
+	}
+
+	@Override
+	public StatefulConfiguration addProperty(String name, String value) {
+		properties.put( name, value );
+		return this;
+	}
+
+	@Override
+	public MessageInterpolator getDefaultMessageInterpolator() {
+		return null;
+	}
+
+	@Override
+	public TraversableResolver getDefaultTraversableResolver() {
+		return null;
+	}
+
+	@Override
+	public ConstraintValidatorFactory getDefaultConstraintValidatorFactory() {
+		return null;
+	}
+
+	@Override
+	public ParameterNameProvider getDefaultParameterNameProvider() {
+		return null;
+	}
+
+	@Override
+	public ClockProvider getDefaultClockProvider() {
+		return defaultClockProvider;
+	}
+
+	@Override
+	public BootstrapConfiguration getBootstrapConfiguration() {
+		return null;
+	}
+
+	@Override
+	public ValidatorFactory buildValidatorFactory() {
+		builtFactories.incrementAndGet();
+		return new FooValidationProvider.DummyValidatorFactory() {
+			@Override
+			public CompletionStage<Map<Class<?>, Duration>> warmUp(Collection<Class<?>> types, Executor executor) {
+				warmUps.incrementAndGet();
+				return CompletableFuture.completedFuture( Collections.emptyMap() );
+			}
+
+			@Override
+			public void writeMetadataSnapshot(Collection<Class<?>> types, Path path) {
+				writtenMetadataSnapshots.incrementAndGet();
+			}
+
+			@Override
+			public void close() {
+				closedFactories.incrementAndGet();
+			}
+		};
+	}
+
+	@Override
+	public boolean isIgnoreXmlConfiguration() {
+		return ignoreXmlConfiguration;
+	}
+
+	@Override
+	public MessageInterpolator getMessageInterpolator() {
+		return messageInterpolator;
+	}
+
+	@Override
+	public Set<InputStream> getMappingStreams() {
+		return mappingStreams;
+	}
+
+	@Override
+	public Set<ValueExtractor<?>> getValueExtractors() {
+		return valueExtractors;
+	}
+
+	@Override
+	public ConstraintValidatorFactory getConstraintValidatorFactory() {
+		return constraintValidatorFactory;
+	}
+
+	@Override
+	public TraversableResolver getTraversableResolver() {
+		return traversableResolver;
+	}
+
+	@Override
+	public ParameterNameProvider getParameterNameProvider() {
+		return parameterNameProvider;
+	}
+
+	@Override
+	public ClockProvider getClockProvider() {
+		return clockProvider != null ? clockProvider : defaultClockProvider;
+	}
+
+	@Override
+	public Map<String, String> getProperties() {
+		return properties;
+	}
+
+	/**
+	 * The default clock provider, instantiated for each configuration as provider implementations typically do.
+	 */
+	public static class DefaultClockProvider implements ClockProvider {
+
+		@Override
+		public Clock getClock() {
+			return Clock.systemDefaultZone();
+		}
+	}
+}
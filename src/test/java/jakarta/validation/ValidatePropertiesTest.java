@@ -0,0 +1,133 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+import jakarta.validation.metadata.BeanDescriptor;
+
+/**
+ * Tests for the default implementations of {@link Validator#validateProperties(Object, Set, Class[])} and
+ * {@link Validator#validateProperties(Object, Set, boolean, Class[])}.
+ */
+public class ValidatePropertiesTest {
+
+	@Test
+	public void testValidatePropertiesValidatesEachProperty() {
+		PredicateValidator validator = new PredicateValidator( object -> false );
+
+		assertEquals( validator.validateProperties( "a", Set.of( "length", "blank" ) ).size(), 2 );
+		assertEquals( validator.getValidateCount(), 2 );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testValidatePropertiesRejectsNullPropertyNames() {
+		new PredicateValidator( object -> true ).validateProperties( "a", null );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testValidatePropertiesRejectsNullGroupsForEmptyPropertyNames() {
+		new PredicateValidator( object -> true ).validateProperties( "a", Set.of(), (Class<?>[]) null );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testValidatePropertiesRejectsNullGroupForEmptyPropertyNames() {
+		new PredicateValidator( object -> true ).validateProperties( "a", Set.of(), (Class<?>) null );
+	}
+
+	@Test
+	public void testValidatePropertiesSkipsWholeValidationWithoutClassLevelConstraints() {
+		PredicateValidator validator = new ClassLevelConstraintsValidator( false );
+
+		assertTrue( validator.validateProperties( "a", Set.of( "length", "blank" ), true ).isEmpty() );
+		assertEquals( validator.getValidateCount(), 2 );
+	}
+
+	@Test
+	public void testValidatePropertiesValidatesWholeObjectForClassLevelConstraints() {
+		PredicateValidator validator = new ClassLevelConstraintsValidator( true );
+
+		assertTrue( validator.validateProperties( "a", Set.of( "length", "blank" ), true ).isEmpty() );
+		assertEquals( validator.getValidateCount(), 3 );
+	}
+
+	@Test
+	public void testValidatePropertiesOnlyAddsClassLevelViolationsOfWholeValidation() {
+		PredicateValidator validator = new ClassLevelConstraintsValidator( true ) {
+			@Override
+			public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+				super.validate( object, groups );
+				return Set.of( violation( "class-level", ElementKind.BEAN, null ), violation( "not requested", ElementKind.PROPERTY, "other" ) );
+			}
+
+			@Override
+			public <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+				return Set.of();
+			}
+		};
+
+		Set<ConstraintViolation<String>> violations = validator.validateProperties( "a", Set.of( "length", "blank" ), true );
+
+		assertEquals( violations.size(), 1 );
+		assertEquals( violations.iterator().next().getMessage(), "class-level" );
+	}
+
+	/**
+	 * Returns a violation the path of which is made of a single node of the given kind.
+	 */
+	private static <T> ConstraintViolation<T> violation(String message, ElementKind kind, String name) {
+		Path.Node node = (Path.Node) Proxy.newProxyInstance( Path.Node.class.getClassLoader(), new Class<?>[] { Path.Node.class },
+				(proxy, method, args) -> {
+					switch ( method.getName() ) {
+						case "getKind":
+							return kind;
+						case "getName":
+							return name;
+						default:
+							throw new UnsupportedOperationException( "Not implemented" );
+					}
+				} );
+		Path path = List.of( node )::iterator;
+		return new DummyConstraintViolation<T>( message ) {
+			@Override
+			public Path getPropertyPath() {
+				return path;
+			}
+		};
+	}
+
+	/**
+	 * A validator of valid objects, the classes of which have class-level constraints or not.
+	 */
+	private static class ClassLevelConstraintsValidator extends PredicateValidator {
+
+		private final boolean classLevelConstraints;
+
+		private ClassLevelConstraintsValidator(boolean classLevelConstraints) {
+			super( object -> true );
+			this.classLevelConstraints = classLevelConstraints;
+		}
+
+		@Override
+		public BeanDescriptor getConstraintsForClass(Class<?> clazz) {
+			return (BeanDescriptor) Proxy.newProxyInstance( BeanDescriptor.class.getClassLoader(), new Class<?>[] { BeanDescriptor.class },
+					(proxy, method, args) -> {
+						if ( !"getConstraintDescriptors".equals( method.getName() ) ) {
+							throw new UnsupportedOperationException( "Not implemented" );
+						}
+						return classLevelConstraints ? Set.of( new Object() ) : Set.of();
+					} );
+		}
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the default implementation of {@link Validator#validateValues(Class, Map, Class[])}.
+ */
+public class ValidateValuesTest {
+
+	@Test
+	public void testValidateValuesValidatesEachValue() {
+		PredicateValidator validator = new PredicateValidator( value -> !"".equals( value ) );
+		Map<String, Object> values = new HashMap<>();
+		values.put( "name", "" );
+		values.put( "nickname", "a" );
+		values.put( "email", "" );
+
+		assertEquals( validator.validateValues( StringBuilder.class, values ).size(), 2 );
+		assertEquals( validator.getValidateCount(), 3 );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testValidateValuesRejectsNullBeanTypeForEmptyValues() {
+		new PredicateValidator( value -> true ).validateValues( null, Map.of() );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testValidateValuesRejectsNullGroupsForEmptyValues() {
+		new PredicateValidator( value -> true ).validateValues( StringBuilder.class, Map.of(), (Class<?>[]) null );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testValidateValuesRejectsNullGroupForEmptyValues() {
+		new PredicateValidator( value -> true ).validateValues( StringBuilder.class, Map.of(), (Class<?>) null );
+	}
+}
@@ -0,0 +1,349 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link ValidatingProcessor}.
+ */
+public class ValidatingProcessorTest {
+
+	@Test
+	public void testValidElementsAreForwardedAndInvalidOnesRouted() {
+		List<Integer> invalid = new ArrayList<>();
+		ValidatingProcessor<Integer> processor = new ValidatingProcessor<>(
+				new PredicateValidator( object -> (Integer) object % 2 == 0 ),
+				(element, violations) -> invalid.add( element ),
+				Runnable::run,
+				4
+		);
+		RecordingSubscriber subscriber = new RecordingSubscriber();
+
+		new IterablePublisher( Arrays.asList( 1, 2, 3, 4, 5, 6 ) ).subscribe( processor );
+		processor.subscribe( subscriber );
+		subscriber.subscription.request( Long.MAX_VALUE );
+
+		assertEquals( subscriber.received, Arrays.asList( 2, 4, 6 ) );
+		assertEquals( invalid, Arrays.asList( 1, 3, 5 ) );
+		assertTrue( subscriber.completed );
+	}
+
+	@Test
+	public void testDemandIsHonored() {
+		ValidatingProcessor<Integer> processor = new ValidatingProcessor<>(
+				new PredicateValidator( object -> (Integer) object % 2 == 0 ),
+				(element, violations) -> { },
+				Runnable::run,
+				4
+		);
+		RecordingSubscriber subscriber = new RecordingSubscriber();
+		IterablePublisher publisher = new IterablePublisher( Arrays.asList( 1, 2, 3, 4, 5, 6, 7, 8 ) );
+
+		publisher.subscribe( processor );
+		processor.subscribe( subscriber );
+		subscriber.subscription.request( 2 );
+
+		assertEquals( subscriber.received, Arrays.asList( 2, 4 ) );
+		// only the elements needed to fulfill the demand are pulled, as the demand is lower than the parallelism
+		assertEquals( publisher.emitted, 4 );
+
+		subscriber.subscription.request( 1 );
+
+		assertEquals( subscriber.received, Arrays.asList( 2, 4, 6 ) );
+		assertEquals( publisher.emitted, 6 );
+
+		subscriber.subscription.cancel();
+
+		assertTrue( publisher.cancelled );
+		assertEquals( subscriber.received, Arrays.asList( 2, 4, 6 ) );
+	}
+
+	@Test
+	public void testElementsAreForwardedInOrderWithParallelValidation() throws Exception {
+		List<Integer> elements = new ArrayList<>();
+		for ( int i = 0; i < 1000; i++ ) {
+			elements.add( i );
+		}
+		ExecutorService executor = Executors.newFixedThreadPool( 4 );
+		try {
+			ValidatingProcessor<Integer> processor = new ValidatingProcessor<>(
+					new PredicateValidator( object -> (Integer) object % 10 != 0 ),
+					(element, violations) -> { },
+					executor,
+					8
+			);
+			RecordingSubscriber subscriber = new RecordingSubscriber();
+
+			new IterablePublisher( elements ).subscribe( processor );
+			processor.subscribe( subscriber );
+			subscriber.subscription.request( Long.MAX_VALUE );
+
+			assertTrue( subscriber.done.await( 10, TimeUnit.SECONDS ) );
+			assertNull( subscriber.error );
+			assertEquals( subscriber.received.size(), 900 );
+			for ( int i = 1; i < subscriber.received.size(); i++ ) {
+				assertTrue( subscriber.received.get( i - 1 ) < subscriber.received.get( i ) );
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testValidationFailureIsSignaled() {
+		ValidatingProcessor<Integer> processor = new ValidatingProcessor<>(
+				new PredicateValidator( object -> {
+					throw new ValidationException( "failure" );
+				} ),
+				(element, violations) -> { },
+				Runnable::run,
+				1
+		);
+		RecordingSubscriber subscriber = new RecordingSubscriber();
+		IterablePublisher publisher = new IterablePublisher( Arrays.asList( 1, 2 ) );
+
+		publisher.subscribe( processor );
+		processor.subscribe( subscriber );
+		subscriber.subscription.request( 1 );
+
+		assertTrue( subscriber.error instanceof ValidationException );
+		assertTrue( publisher.cancelled );
+	}
+
+	@Test
+	public void testPrefetchIsBoundedByParallelism() {
+		ValidatingProcessor<Integer> processor = new ValidatingProcessor<>(
+				new PredicateValidator( object -> true ),
+				(element, violations) -> { },
+				Runnable::run,
+				2
+		);
+		IterablePublisher publisher = new IterablePublisher( Arrays.asList( 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 ) );
+		AtomicInteger forwarded = new AtomicInteger();
+		RecordingSubscriber subscriber = new RecordingSubscriber() {
+			@Override
+			public void onNext(Integer item) {
+				super.onNext( item );
+				// the elements requested and not yet forwarded never exceed the parallelism
+				assertTrue( publisher.emitted - forwarded.incrementAndGet() <= 2 );
+			}
+		};
+
+		publisher.subscribe( processor );
+		processor.subscribe( subscriber );
+		subscriber.subscription.request( 5 );
+
+		assertEquals( subscriber.received, Arrays.asList( 1, 2, 3, 4, 5 ) );
+		assertEquals( publisher.emitted, 5 );
+	}
+
+	@Test
+	public void testSubscriberFailureIsSignaled() {
+		IllegalStateException failure = new IllegalStateException( "failure" );
+		ValidatingProcessor<Integer> processor = new ValidatingProcessor<>(
+				new PredicateValidator( object -> true ),
+				(element, violations) -> { },
+				Runnable::run,
+				1
+		);
+		RecordingSubscriber subscriber = new RecordingSubscriber() {
+			@Override
+			public void onNext(Integer item) {
+				super.onNext( item );
+				throw failure;
+			}
+		};
+		IterablePublisher publisher = new IterablePublisher( Arrays.asList( 1, 2, 3 ) );
+
+		publisher.subscribe( processor );
+		processor.subscribe( subscriber );
+		subscriber.subscription.request( Long.MAX_VALUE );
+
+		assertEquals( subscriber.received, Arrays.asList( 1 ) );
+		assertSame( subscriber.error, failure );
+		assertEquals( subscriber.errors, 1 );
+		assertTrue( publisher.cancelled );
+
+		// the processor is not stuck, further signals are ignored
+		subscriber.subscription.request( 1 );
+		assertEquals( subscriber.received, Arrays.asList( 1 ) );
+	}
+
+	@Test
+	public void testNullViolationsAreSignaled() {
+		ValidatingProcessor<Integer> processor = new ValidatingProcessor<>(
+				new PredicateValidator( object -> true ) {
+					@Override
+					public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+						return null;
+					}
+				},
+				(element, violations) -> { },
+				Runnable::run,
+				1
+		);
+		RecordingSubscriber subscriber = new RecordingSubscriber();
+		IterablePublisher publisher = new IterablePublisher( Arrays.asList( 1, 2 ) );
+
+		publisher.subscribe( processor );
+		processor.subscribe( subscriber );
+		subscriber.subscription.request( 1 );
+
+		assertTrue( subscriber.error instanceof ValidationException );
+		assertTrue( publisher.cancelled );
+	}
+
+	@Test
+	public void testSubscriptionIsReceivedBeforeAnySignal() {
+		ValidatingProcessor<Integer> processor = new ValidatingProcessor<>(
+				new PredicateValidator( object -> true ),
+				(element, violations) -> { },
+				Runnable::run,
+				1
+		);
+		List<String> signals = Collections.synchronizedList( new ArrayList<>() );
+		processor.subscribe( new RecordingSubscriber() {
+			@Override
+			public void onSubscribe(Flow.Subscription subscription) {
+				// the upstream completes on another thread while the subscriber receives its subscription
+				Thread upstream = new Thread( processor::onComplete );
+				upstream.start();
+				try {
+					upstream.join();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				signals.add( "onSubscribe" );
+				super.onSubscribe( subscription );
+			}
+
+			@Override
+			public void onComplete() {
+				signals.add( "onComplete" );
+				super.onComplete();
+			}
+		} );
+
+		assertEquals( signals, Arrays.asList( "onSubscribe", "onComplete" ) );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testParallelismMustBePositive() {
+		new ValidatingProcessor<>( new PredicateValidator( object -> true ), (element, violations) -> { }, Runnable::run, 0 );
+	}
+
+	/**
+	 * A publisher emitting the elements of an iterable synchronously, as they are requested.
+	 */
+	private static class IterablePublisher implements Flow.Publisher<Integer> {
+
+		private final Iterator<Integer> elements;
+
+		private long demand;
+
+		private boolean emitting;
+
+		private volatile int emitted;
+
+		private volatile boolean cancelled;
+
+		private boolean completed;
+
+		private IterablePublisher(Iterable<Integer> elements) {
+			this.elements = elements.iterator();
+		}
+
+		@Override
+		public void subscribe(Flow.Subscriber<? super Integer> subscriber) {
+			subscriber.onSubscribe( new Flow.Subscription() {
+
+				@Override
+				public synchronized void request(long n) {
+					demand += n;
+					if ( emitting ) {
+						return;
+					}
+					emitting = true;
+					while ( demand > 0 && !cancelled && !completed && elements.hasNext() ) {
+						demand--;
+						emitted++;
+						subscriber.onNext( elements.next() );
+					}
+					if ( !cancelled && !completed && !elements.hasNext() ) {
+						completed = true;
+						subscriber.onComplete();
+					}
+					emitting = false;
+				}
+
+				@Override
+				public void cancel() {
+					cancelled = true;
+				}
+			} );
+		}
+	}
+
+	private static class RecordingSubscriber implements Flow.Subscriber<Integer> {
+
+		private final List<Integer> received = Collections.synchronizedList( new ArrayList<>() );
+
+		private final CountDownLatch done = new CountDownLatch( 1 );
+
+		private volatile Flow.Subscription subscription;
+
+		private volatile boolean completed;
+
+		private volatile Throwable error;
+
+		private volatile int errors;
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(Integer item) {
+			received.add( item );
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			error = throwable;
+			errors++;
+			done.countDown();
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+			done.countDown();
+		}
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link ValidationAbortedException} and {@link CancellationToken}.
+ */
+public class ValidationAbortedExceptionTest {
+
+	@Test
+	public void testExceptionCarriesPartialViolations() {
+		Set<ConstraintViolation<String>> violations = Collections.singleton( new DummyConstraintViolation<>( "invalid" ) );
+
+		ValidationAbortedException exception = new ValidationAbortedException(
+				"deadline exceeded",
+				ValidationAbortedException.Reason.DEADLINE_EXCEEDED,
+				violations
+		);
+
+		assertEquals( exception.getMessage(), "deadline exceeded" );
+		assertEquals( exception.getReason(), ValidationAbortedException.Reason.DEADLINE_EXCEEDED );
+		assertEquals( exception.getPartialConstraintViolations(), violations );
+	}
+
+	@Test
+	public void testExceptionWithoutViolations() {
+		ValidationAbortedException exception = new ValidationAbortedException( null, ValidationAbortedException.Reason.CANCELLED, null );
+
+		assertNull( exception.getPartialConstraintViolations() );
+	}
+
+	@Test
+	public void testTokenCanBeCancelled() {
+		CancellationToken token = new CancellationToken();
+		assertFalse( token.isCancelled() );
+
+		token.cancel();
+		token.cancel();
+
+		assertTrue( token.isCancelled() );
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the default implementation of {@link Validator#openSession(Class, boolean, Class[])}.
+ */
+public class ValidationSessionTest {
+
+	@Test
+	public void testSessionCollectsViolationsOfAllProperties() {
+		PredicateValidator validator = new PredicateValidator( value -> !"".equals( value ) );
+
+		ValidationSession<StringBuilder> session = validator.openSession( StringBuilder.class, false );
+
+		assertTrue( session.property( "name", "" ) );
+		assertTrue( session.beginBean( "address", Object.class ) );
+		assertTrue( session.property( "city", "" ) );
+		assertTrue( session.endBean() );
+		assertTrue( session.property( "email", "a" ) );
+
+		assertFalse( session.isAborted() );
+		assertEquals( session.getViolations().size(), 2 );
+		assertEquals( validator.getValidateCount(), 3 );
+	}
+
+	@Test
+	public void testSessionAbortsOnFirstViolation() {
+		PredicateValidator validator = new PredicateValidator( value -> !"".equals( value ) );
+
+		ValidationSession<StringBuilder> session = validator.openSession( StringBuilder.class, true );
+
+		assertTrue( session.property( "email", "a" ) );
+		assertFalse( session.property( "name", "" ) );
+		assertFalse( session.property( "nickname", "" ) );
+
+		assertTrue( session.isAborted() );
+		assertEquals( session.getViolations().size(), 1 );
+		assertEquals( validator.getValidateCount(), 2 );
+	}
+
+	@Test
+	public void testSessionReportsViolationsByBeanPath() {
+		PredicateValidator validator = new PredicateValidator( value -> !"".equals( value ) );
+
+		ValidationSession<StringBuilder> session = validator.openSession( StringBuilder.class, false );
+
+		session.property( "name", "" );
+		session.beginBean( "address", Object.class );
+		session.property( "city", "" );
+		session.beginBean( "geo", Object.class );
+		session.property( "latitude", "" );
+		session.endBean();
+		session.endBean();
+		session.beginBean( "billingAddress", Object.class );
+		session.property( "city", "" );
+		session.endBean();
+
+		Map<String, Set<ConstraintViolation<?>>> violationsByBeanPath = session.getViolationsByBeanPath();
+		assertEquals( violationsByBeanPath.keySet(), new LinkedHashSet<>( Arrays.asList( "", "address", "address.geo", "billingAddress" ) ) );
+		assertEquals( violationsByBeanPath.get( "address" ).iterator().next().getMessage(), "city invalid: " );
+		assertEquals( violationsByBeanPath.get( "billingAddress" ).iterator().next().getMessage(), "city invalid: " );
+		assertEquals( violationsByBeanPath.get( "address.geo" ).iterator().next().getMessage(), "latitude invalid: " );
+	}
+
+	@Test
+	public void testSessionReportsEqualViolationsOfDifferentBeans() {
+		// the violations of a property are equal whatever the bean hosting it, as for a provider
+		// reporting them relative to the bean
+		Map<String, ConstraintViolation<Object>> violationsByProperty = new HashMap<>();
+		PredicateValidator validator = new PredicateValidator( value -> false ) {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, String propertyName, Object value, Class<?>... groups) {
+				super.validateValue( beanType, propertyName, value, groups );
+				return Collections.singleton( (ConstraintViolation<T>) violationsByProperty.computeIfAbsent( propertyName,
+						name -> new DummyConstraintViolation<>( name + " invalid" ) ) );
+			}
+		};
+
+		ValidationSession<StringBuilder> session = validator.openSession( StringBuilder.class, false );
+
+		session.beginBean( "address", Object.class );
+		session.property( "city", "" );
+		session.endBean();
+		session.beginBean( "billingAddress", Object.class );
+		session.property( "city", "" );
+		session.endBean();
+
+		assertEquals( session.getViolations().size(), 2 );
+		assertEquals( session.getViolationsByBeanPath().get( "address" ).size(), 1 );
+		assertEquals( session.getViolationsByBeanPath().get( "billingAddress" ).size(), 1 );
+	}
+
+	@Test(expectedExceptions = IllegalStateException.class)
+	public void testEndBeanWithoutBeginBean() {
+		new PredicateValidator( value -> true ).openSession( StringBuilder.class, false ).endBean();
+	}
+}
@@ -9,6 +9,8 @@ package jakarta.validation;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
@@ -20,6 +22,13 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.testng.annotations.Test;
 
@@ -28,6 +37,7 @@ import jakarta.validation.Validation;
 import jakarta.validation.ValidationProviderResolver;
 import jakarta.validation.ValidatorFactory;
 import jakarta.validation.NonRegisteredValidationProvider.NonRegisteredConfiguration;
+import jakarta.validation.spi.BootstrapState;
 import jakarta.validation.spi.ValidationProvider;
 
 /**
@@ -145,6 +155,36 @@ public class ValidationTest {
 		assertNotNull( configuration );
 	}
 
+	@Test
+	public void testByProviderCreatesNewConfigurationForEachBootstrap() {
+		NonRegisteredConfiguration first = Validation.byProvider( NonRegisteredValidationProvider.class ).configure();
+		NonRegisteredConfiguration second = Validation.byProvider( NonRegisteredValidationProvider.class ).configure();
+		assertNotNull( first );
+		assertNotNull( second );
+		assertNotSame( first, second );
+	}
+
+	@Test(expectedExceptions = ValidationException.class)
+	public void testByProviderRequiresNoArgConstructor() {
+		Validation.byProvider( NoDefaultConstructorValidationProvider.class ).configure();
+	}
+
+	@Test
+	public void testValidatorFactoryCanBeBuiltAsynchronously() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			ValidatorFactory factory = Validation.byDefaultProvider()
+					.configure()
+					.buildValidatorFactoryAsync( executor )
+					.toCompletableFuture()
+					.get( 30, TimeUnit.SECONDS );
+			assertTrue( factory instanceof FooValidationProvider.DummyValidatorFactory );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
 	// BVAL-559
 	@Test(expectedExceptions = NoProviderFoundException.class)
 	public void testNoProviderFoundThrowsNoProviderFoundException() {
@@ -154,6 +194,176 @@ public class ValidationTest {
 				.buildValidatorFactory();
 	}
 
+	@Test
+	public void testConcurrentFirstCallersShareSingleProviderLoad() throws Exception {
+		int threadCount = 200;
+		ClassLoader customClassLoader = new CustomValidationProviderClassLoader( "-1" );
+		int providersCreatedBefore = BarValidationProvider.createdValidationProviders.size();
+
+		CountDownLatch start = new CountDownLatch( 1 );
+		List<Callable<ValidatorFactory>> tasks = new ArrayList<>();
+		for ( int i = 0; i < threadCount; i++ ) {
+			tasks.add( () -> {
+				Thread.currentThread().setContextClassLoader( customClassLoader );
+				start.await();
+				return Validation.buildDefaultValidatorFactory();
+			} );
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool( threadCount );
+		try {
+			List<Future<ValidatorFactory>> futures = new ArrayList<>();
+			for ( Callable<ValidatorFactory> task : tasks ) {
+				futures.add( executor.submit( task ) );
+			}
+			start.countDown();
+			for ( Future<ValidatorFactory> future : futures ) {
+				assertTrue( future.get( 30, TimeUnit.SECONDS ) instanceof BarValidationProvider.DummyValidatorFactory );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(
+				BarValidationProvider.createdValidationProviders.size() - providersCreatedBefore,
+				1,
+				"The providers of a class loader should be loaded only once"
+		);
+	}
+
+	@Test
+	public void testOnlyFirstProviderIsInstantiatedForDefaultBootstrap() {
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		// the class loader sees BarValidationProvider first, then FooValidationProvider
+		Thread.currentThread().setContextClassLoader( new CustomValidationProviderClassLoader( "-1", "" ) );
+		int barProvidersCreatedBefore = BarValidationProvider.createdValidationProviders.size();
+		int fooProvidersCreatedBefore = FooValidationProvider.createdValidationProviders.size();
+		try {
+			ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+			assertTrue( factory instanceof BarValidationProvider.DummyValidatorFactory );
+		}
+		finally {
+			Thread.currentThread().setContextClassLoader( contextClassLoader );
+		}
+
+		assertEquals( BarValidationProvider.createdValidationProviders.size() - barProvidersCreatedBefore, 1 );
+		assertEquals( FooValidationProvider.createdValidationProviders.size() - fooProvidersCreatedBefore, 0 );
+	}
+
+	@Test
+	public void testProviderSelectedByClassNameIsTheOnlyOneInstantiated() {
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		Thread.currentThread().setContextClassLoader( new CustomValidationProviderClassLoader( "-1", "" ) );
+		int barProvidersCreatedBefore = BarValidationProvider.createdValidationProviders.size();
+		int fooProvidersCreatedBefore = FooValidationProvider.createdValidationProviders.size();
+		try {
+			// the bootstrap implementation is the BootstrapState handed over to the providers
+			ValidationProviderResolver resolver = ( (BootstrapState) Validation.byDefaultProvider() )
+					.getDefaultValidationProviderResolver();
+
+			assertTrue( resolver.getValidationProvider( FooValidationProvider.class.getName() ) instanceof FooValidationProvider );
+			assertEquals( BarValidationProvider.createdValidationProviders.size() - barProvidersCreatedBefore, 0 );
+			assertEquals( FooValidationProvider.createdValidationProviders.size() - fooProvidersCreatedBefore, 1 );
+
+			assertNull( resolver.getValidationProvider( "non.existent.ValidationProvider" ) );
+		}
+		finally {
+			Thread.currentThread().setContextClassLoader( contextClassLoader );
+		}
+	}
+
+	@Test
+	public void testProviderIndexIsUsedInsteadOfServiceFiles() {
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		// the service file of the class loader lists BarValidationProvider, its index FooValidationProvider
+		IndexedValidationProviderClassLoader classLoader = new IndexedValidationProviderClassLoader( "-1", "-1" );
+		Thread.currentThread().setContextClassLoader( classLoader );
+		int barProvidersCreatedBefore = BarValidationProvider.createdValidationProviders.size();
+		try {
+			ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+			assertTrue( factory instanceof FooValidationProvider.DummyValidatorFactory );
+		}
+		finally {
+			Thread.currentThread().setContextClassLoader( contextClassLoader );
+		}
+
+		assertEquals( BarValidationProvider.createdValidationProviders.size() - barProvidersCreatedBefore, 0 );
+		assertEquals( classLoader.serviceFileLookups.get(), 0 );
+	}
+
+	@Test
+	public void testProvidersOnlyDeclaredInServiceFilesAreNotHidden() {
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		// the service file of the class loader lists BarValidationProvider, its index FooValidationProvider
+		Thread.currentThread().setContextClassLoader( new IndexedValidationProviderClassLoader( "-1", "-1" ) );
+		try {
+			ValidationProviderResolver resolver = ( (BootstrapState) Validation.byDefaultProvider() )
+					.getDefaultValidationProviderResolver();
+
+			assertTrue( resolver.getValidationProvider( BarValidationProvider.class.getName() ) instanceof BarValidationProvider );
+
+			List<ValidationProvider<?>> providers = resolver.getValidationProviders();
+			assertEquals( providers.size(), 2 );
+			assertTrue( providers.get( 0 ) instanceof FooValidationProvider );
+			assertTrue( providers.get( 1 ) instanceof BarValidationProvider );
+		}
+		finally {
+			Thread.currentThread().setContextClassLoader( contextClassLoader );
+		}
+	}
+
+	@Test
+	public void testServiceFilesAreScannedIfNoIndexedProviderCanBeLoaded() {
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		// the index of the class loader only lists a provider which does not exist
+		Thread.currentThread().setContextClassLoader( new IndexedValidationProviderClassLoader( "-1", "-3" ) );
+		try {
+			ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+			assertTrue( factory instanceof BarValidationProvider.DummyValidatorFactory );
+		}
+		finally {
+			Thread.currentThread().setContextClassLoader( contextClassLoader );
+		}
+	}
+
+	@Test
+	public void testMissingProviderIndexIsLookedUpOnce() {
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		// the class loader has no index and no provider, so its empty provider list is not cached
+		IndexedValidationProviderClassLoader classLoader = new IndexedValidationProviderClassLoader( "-2" );
+		Thread.currentThread().setContextClassLoader( classLoader );
+		try {
+			ValidationProviderResolver resolver = ( (BootstrapState) Validation.byDefaultProvider() )
+					.getDefaultValidationProviderResolver();
+			resolver.getValidationProviders();
+			resolver.getValidationProviders();
+		}
+		finally {
+			Thread.currentThread().setContextClassLoader( contextClassLoader );
+		}
+
+		assertEquals( classLoader.indexLookups.get(), 1 );
+	}
+
+	@Test
+	public void testProviderIndexesAreMerged() {
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		Thread.currentThread().setContextClassLoader( new IndexedValidationProviderClassLoader( "-1", "-1", "-2" ) );
+		try {
+			ValidationProviderResolver resolver = ( (BootstrapState) Validation.byDefaultProvider() )
+					.getDefaultValidationProviderResolver();
+			List<ValidationProvider<?>> providers = resolver.getValidationProviders();
+
+			assertEquals( providers.size(), 2 );
+			assertTrue( providers.get( 0 ) instanceof FooValidationProvider );
+			assertTrue( providers.get( 1 ) instanceof BarValidationProvider );
+		}
+		finally {
+			Thread.currentThread().setContextClassLoader( contextClassLoader );
+		}
+	}
+
 	private int countInMemoryProviders() {
 		int count = 0;
 		// we cannot access Validation.DefaultValidationProviderResolver#providersPerClassloader, so we have to
@@ -169,6 +379,7 @@ public class ValidationTest {
 	private static class CustomValidationProviderClassLoader extends ClassLoader {
 		private static final String SERVICES_FILE = "META-INF/services/" + ValidationProvider.class.getName();
 		private final String[] serviceFileSuffixes;
+		final AtomicInteger serviceFileLookups = new AtomicInteger();
 
 		public CustomValidationProviderClassLoader(String... suffixes) {
 			super( CustomValidationProviderClassLoader.class.getClassLoader() );
@@ -180,6 +391,7 @@ public class ValidationTest {
 			CustomEnumeration<URL> customEnumeration = new CustomEnumeration<>();
 
 			if ( SERVICES_FILE.equals( name ) && serviceFileSuffixes != null ) {
+				serviceFileLookups.incrementAndGet();
 				for ( String suffix : serviceFileSuffixes ) {
 					customEnumeration.addElements( super.getResources( name + suffix ) );
 				}
@@ -191,6 +403,30 @@ public class ValidationTest {
 		}
 	}
 
+	private static class IndexedValidationProviderClassLoader extends CustomValidationProviderClassLoader {
+		private static final String INDEX_FILE = "META-INF/validation-providers.idx";
+		private final String[] indexFileSuffixes;
+		final AtomicInteger indexLookups = new AtomicInteger();
+
+		public IndexedValidationProviderClassLoader(String serviceFileSuffix, String... indexFileSuffixes) {
+			super( serviceFileSuffix );
+			this.indexFileSuffixes = indexFileSuffixes;
+		}
+
+		@Override
+		public Enumeration<URL> getResources(String name) throws IOException {
+			if ( INDEX_FILE.equals( name ) ) {
+				indexLookups.incrementAndGet();
+				CustomEnumeration<URL> customEnumeration = new CustomEnumeration<>();
+				for ( String suffix : indexFileSuffixes ) {
+					customEnumeration.addElements( super.getResources( name + suffix ) );
+				}
+				return customEnumeration;
+			}
+			return super.getResources( name );
+		}
+	}
+
 	private static class CustomEnumeration<E> implements Enumeration<E> {
 		private final List<E> enumList = new ArrayList<>();
 		int currentIndex = 0;
@@ -214,6 +450,12 @@ public class ValidationTest {
 		}
 	}
 
+	public static class NoDefaultConstructorValidationProvider extends NonRegisteredValidationProvider {
+
+		public NoDefaultConstructorValidationProvider(String name) {
+		}
+	}
+
 	private static class EmptyValidationProviderResolver implements ValidationProviderResolver {
 
 		@Override
@@ -0,0 +1,98 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+import java.time.Duration;
+
+import org.testng.annotations.Test;
+
+import jakarta.validation.valueextraction.ValueExtractor;
+
+/**
+ * Tests for the default methods of {@link ValidatorContext}, as used with providers not supporting the options they
+ * define.
+ */
+public class ValidatorContextTest {
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testMaxViolationsMustBePositive() {
+		new UnsupportingValidatorContext().maxViolations( 0 );
+	}
+
+	@Test(expectedExceptions = ValidationException.class)
+	public void testMaxViolationsIsNotSupportedByDefault() {
+		new UnsupportingValidatorContext().maxViolations( 1 );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testCascadeParallelismThresholdMustBePositive() {
+		new UnsupportingValidatorContext().cascadeExecutor( Runnable::run, 0 );
+	}
+
+	@Test(expectedExceptions = ValidationException.class)
+	public void testCascadeExecutorIsNotSupportedByDefault() {
+		new UnsupportingValidatorContext().cascadeExecutor( Runnable::run, 1 );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testMaxCascadeDepthMustNotBeNegative() {
+		new UnsupportingValidatorContext().maxCascadeDepth( -1 );
+	}
+
+	@Test(expectedExceptions = ValidationException.class)
+	public void testMaxCascadeDepthIsNotSupportedByDefault() {
+		new UnsupportingValidatorContext().maxCascadeDepth( 0 );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testDeadlineMustBePositive() {
+		new UnsupportingValidatorContext().deadline( Duration.ZERO );
+	}
+
+	@Test(expectedExceptions = ValidationException.class)
+	public void testDeadlineIsNotSupportedByDefault() {
+		new UnsupportingValidatorContext().deadline( Duration.ofSeconds( 1 ) );
+	}
+
+	private static class UnsupportingValidatorContext implements ValidatorContext {
+
+		@Override
+		public ValidatorContext messageInterpolator(MessageInterpolator messageInterpolator) {
+			return this;
+		}
+
+		@Override
+		public ValidatorContext traversableResolver(TraversableResolver traversableResolver) {
+			return this;
+		}
+
+		@Override
+		public ValidatorContext constraintValidatorFactory(ConstraintValidatorFactory factory) {
+			return this;
+		}
+
+		@Override
+		public ValidatorContext parameterNameProvider(ParameterNameProvider parameterNameProvider) {
+			return this;
+		}
+
+		@Override
+		public ValidatorContext clockProvider(ClockProvider clockProvider) {
+			return this;
+		}
+
+		@Override
+		public ValidatorContext addValueExtractor(ValueExtractor<?> extractor) {
+			return this;
+		}
+
+		@Override
+		public Validator getValidator() {
+			throw new UnsupportedOperationException( "Not implemented" );
+		}
+	}
+}
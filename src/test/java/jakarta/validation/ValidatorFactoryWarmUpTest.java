@@ -0,0 +1,89 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.testng.annotations.Test;
+
+import jakarta.validation.metadata.BeanDescriptor;
+
+/**
+ * Tests for the default implementation of {@link ValidatorFactory#warmUp(java.util.Collection, java.util.concurrent.Executor)}.
+ */
+public class ValidatorFactoryWarmUpTest {
+
+	@Test
+	public void testWarmUpReportsTimingPerType() {
+		Set<Class<?>> warmedUpTypes = ConcurrentHashMap.newKeySet();
+		ValidatorFactory factory = new WarmingUpValidatorFactory( warmedUpTypes );
+
+		Map<Class<?>, Duration> timings = factory.warmUp( Arrays.asList( String.class, Integer.class ), Runnable::run )
+				.toCompletableFuture()
+				.join();
+
+		assertEquals( timings.keySet(), warmedUpTypes );
+		assertEquals( timings.size(), 2 );
+		for ( Duration timing : timings.values() ) {
+			assertTrue( !timing.isNegative() );
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testWarmUpRejectsNullType() {
+		new WarmingUpValidatorFactory( ConcurrentHashMap.newKeySet() ).warmUp( Arrays.asList( String.class, null ), Runnable::run );
+	}
+
+	@Test
+	public void testWarmUpCompletesExceptionallyWithCompletionException() {
+		ValidatorFactory factory = new WarmingUpValidatorFactory( ConcurrentHashMap.newKeySet() );
+
+		try {
+			factory.warmUp( Arrays.asList( String.class, Broken.class ), Runnable::run ).toCompletableFuture().join();
+			fail( "The warm up should have failed." );
+		}
+		catch (CompletionException e) {
+			assertTrue( e.getCause() instanceof ValidationException );
+		}
+	}
+
+	private static class Broken {
+	}
+
+	private static class WarmingUpValidatorFactory extends FooValidationProvider.DummyValidatorFactory {
+
+		private final Set<Class<?>> warmedUpTypes;
+
+		private WarmingUpValidatorFactory(Set<Class<?>> warmedUpTypes) {
+			this.warmedUpTypes = warmedUpTypes;
+		}
+
+		@Override
+		public Validator getValidator() {
+			return new PredicateValidator( object -> true ) {
+
+				@Override
+				public BeanDescriptor getConstraintsForClass(Class<?> clazz) {
+					if ( clazz == Broken.class ) {
+						throw new ValidationException( "Unable to build the metadata of " + clazz.getName() + "." );
+					}
+					warmedUpTypes.add( clazz );
+					return null;
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the default implementation of {@link Validator#validate(Object, ViolationSink, Class[])}.
+ */
+public class ViolationSinkTest {
+
+	@Test
+	public void testSinkReceivesAllViolations() {
+		PredicateValidator validator = new MultipleViolationsValidator();
+		List<String> received = new ArrayList<>();
+
+		validator.validate( "a", violation -> received.add( violation.getMessage() ) );
+
+		Set<String> expected = new HashSet<>();
+		for ( ConstraintViolation<String> violation : validator.validate( "a" ) ) {
+			expected.add( violation.getMessage() );
+		}
+		assertEquals( received.size(), 3 );
+		assertEquals( new HashSet<>( received ), expected );
+	}
+
+	@Test
+	public void testSinkStopsValidation() {
+		PredicateValidator validator = new MultipleViolationsValidator();
+		List<ConstraintViolation<?>> received = new ArrayList<>();
+
+		validator.validate( "a", violation -> {
+			received.add( violation );
+			return received.size() < 2;
+		} );
+
+		assertEquals( received.size(), 2 );
+	}
+
+	@Test
+	public void testSinkIsPassedTheGroups() {
+		PredicateValidator validator = new MultipleViolationsValidator();
+
+		validator.validate( "a", violation -> true, String.class );
+
+		assertEquals( validator.getLastGroups(), List.of( String.class ) );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testNullSinkIsRejected() {
+		new MultipleViolationsValidator().validate( "a", (ViolationSink<String>) null );
+	}
+
+	/**
+	 * A validator reporting three constraint violations for any object.
+	 */
+	private static class MultipleViolationsValidator extends PredicateValidator {
+
+		private MultipleViolationsValidator() {
+			super( object -> false );
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+			Set<ConstraintViolation<T>> violations = new LinkedHashSet<>( super.validate( object, groups ) );
+			violations.add( new DummyConstraintViolation<>( "too short: " + object ) );
+			violations.add( new DummyConstraintViolation<>( "not an email: " + object ) );
+			return violations;
+		}
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation.spi;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.testng.annotations.Test;
+
+import jakarta.validation.ValidationException;
+
+/**
+ * Tests for {@link CascadeTraversal}.
+ */
+public class CascadeTraversalTest {
+
+	@Test
+	public void testNodesAreVisitedDepthFirstInCascadeOrder() {
+		Node tree = new Node( "a",
+				new Node( "b", new Node( "c" ), new Node( "d" ) ),
+				new Node( "e", new Node( "f" ) )
+		);
+		List<String> visited = new ArrayList<>();
+
+		CascadeTraversal.<Node>traverse( tree, 10, (node, depth, cascade) -> {
+			visited.add( node.name + depth );
+			node.children.forEach( cascade );
+		} );
+
+		assertEquals( visited, Arrays.asList( "a0", "b1", "c2", "d2", "e1", "f2" ) );
+	}
+
+	@Test
+	public void testDeepGraphIsTraversedWithoutRecursion() {
+		Node list = new Node( "0" );
+		Node last = list;
+		for ( int i = 1; i <= 100_000; i++ ) {
+			Node next = new Node( String.valueOf( i ) );
+			last.children.add( next );
+			last = next;
+		}
+		int[] maxDepth = new int[1];
+
+		CascadeTraversal.<Node>traverse( list, 100_000, (node, depth, cascade) -> {
+			maxDepth[0] = Math.max( maxDepth[0], depth );
+			node.children.forEach( cascade );
+		} );
+
+		assertEquals( maxDepth[0], 100_000 );
+	}
+
+	@Test(expectedExceptions = ValidationException.class)
+	public void testMaxCascadeDepthIsEnforced() {
+		Node list = new Node( "a", new Node( "b", new Node( "c" ) ) );
+
+		CascadeTraversal.<Node>traverse( list, 1, (node, depth, cascade) -> node.children.forEach( cascade ) );
+	}
+
+	@Test
+	public void testLeavesAtMaxCascadeDepthAreVisited() {
+		Node list = new Node( "a", new Node( "b" ) );
+		List<String> visited = new ArrayList<>();
+
+		CascadeTraversal.<Node>traverse( list, 1, (node, depth, cascade) -> {
+			visited.add( node.name );
+			node.children.forEach( cascade );
+		} );
+
+		assertEquals( visited, Arrays.asList( "a", "b" ) );
+	}
+
+	@Test
+	public void testNodesAreLeftOnceTheirCascadesAreVisited() {
+		Node tree = new Node( "a",
+				new Node( "b", new Node( "c" ), new Node( "d" ) ),
+				new Node( "e" )
+		);
+		List<String> events = new ArrayList<>();
+
+		CascadeTraversal.traverse( tree, 10, new CascadeTraversal.Visitor<Node>() {
+
+			@Override
+			public void visit(Node node, int depth, Consumer<? super Node> cascade) {
+				events.add( "+" + node.name + depth );
+				node.children.forEach( cascade );
+			}
+
+			@Override
+			public void leave(Node node, int depth) {
+				events.add( "-" + node.name + depth );
+			}
+		} );
+
+		assertEquals( events, Arrays.asList( "+a0", "+b1", "+c2", "-c2", "+d2", "-d2", "-b1", "+e1", "-e1", "-a0" ) );
+	}
+
+	@Test
+	public void testSharedBeanIsVisitedOnEachPathWithPathScopedCycleDetection() {
+		// order -> (billing, shipping) -> address -> order: the address is shared and cascades back to the order
+		Node order = new Node( "order" );
+		Node address = new Node( "address", order );
+		order.children.add( new Node( "billing", address ) );
+		order.children.add( new Node( "shipping", address ) );
+		List<String> visited = new ArrayList<>();
+		List<String> cycles = new ArrayList<>();
+
+		CascadeTraversal.traverse( order, 10, new CascadeTraversal.Visitor<Node>() {
+
+			//the nodes of the current path, which are visited and not yet left
+			private final Set<Node> path = Collections.newSetFromMap( new IdentityHashMap<>() );
+
+			@Override
+			public void visit(Node node, int depth, Consumer<? super Node> cascade) {
+				visited.add( node.name );
+				path.add( node );
+				for ( Node child : node.children ) {
+					if ( path.contains( child ) ) {
+						cycles.add( node.name + "->" + child.name );
+					}
+					else {
+						cascade.accept( child );
+					}
+				}
+			}
+
+			@Override
+			public void leave(Node node, int depth) {
+				path.remove( node );
+			}
+		} );
+
+		assertEquals( visited, Arrays.asList( "order", "billing", "address", "shipping", "address" ) );
+		assertEquals( cycles, Arrays.asList( "address->order", "address->order" ) );
+	}
+
+	private static class Node {
+
+		private final String name;
+
+		private final List<Node> children;
+
+		private Node(String name, Node... children) {
+			this.name = name;
+			this.children = new ArrayList<>( Arrays.asList( children ) );
+		}
+	}
+}
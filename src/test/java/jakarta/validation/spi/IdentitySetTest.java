@@ -0,0 +1,183 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation.spi;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.testng.annotations.Test;
+
+import jakarta.validation.groups.Default;
+
+/**
+ * Tests for {@link IdentitySet}.
+ */
+public class IdentitySetTest {
+
+	@Test
+	public void testElementsAreComparedByIdentity() {
+		IdentitySet set = new IdentitySet();
+		String key = new String( "bean" );
+
+		assertTrue( set.add( key ) );
+		assertFalse( set.add( key ) );
+		assertTrue( set.add( new String( "bean" ) ) );
+
+		assertTrue( set.contains( key ) );
+		assertFalse( set.contains( "bean" ) );
+		assertEquals( set.size(), 2 );
+	}
+
+	@Test
+	public void testQualifiersAreComparedByIdentity() {
+		IdentitySet set = new IdentitySet();
+		Object bean = new Object();
+
+		assertTrue( set.add( bean, Default.class ) );
+		assertFalse( set.add( bean, Default.class ) );
+		assertTrue( set.add( bean, Object.class ) );
+		assertTrue( set.add( bean ) );
+
+		assertTrue( set.contains( bean, Object.class ) );
+		assertFalse( set.contains( bean, String.class ) );
+		assertEquals( set.size(), 3 );
+	}
+
+	@Test
+	public void testSetGrowsAndIsReusable() {
+		IdentitySet set = new IdentitySet( 0 );
+		List<Object> beans = new ArrayList<>();
+		for ( int i = 0; i < 10_000; i++ ) {
+			beans.add( new Object() );
+		}
+
+		for ( int round = 0; round < 2; round++ ) {
+			for ( Object bean : beans ) {
+				assertTrue( set.add( bean, Default.class ) );
+			}
+			assertEquals( set.size(), beans.size() );
+			for ( Object bean : beans ) {
+				assertTrue( set.contains( bean, Default.class ) );
+				assertFalse( set.contains( bean ) );
+			}
+
+			set.clear();
+
+			assertTrue( set.isEmpty() );
+			assertFalse( set.contains( beans.get( 0 ), Default.class ) );
+		}
+	}
+
+	@Test
+	public void testElementsCanBeRemoved() {
+		IdentitySet set = new IdentitySet();
+		Object bean = new Object();
+		set.add( bean, Default.class );
+		set.add( bean );
+
+		assertTrue( set.remove( bean, Default.class ) );
+		assertFalse( set.remove( bean, Default.class ) );
+		assertFalse( set.contains( bean, Default.class ) );
+		assertTrue( set.contains( bean ) );
+		assertEquals( set.size(), 1 );
+
+		assertTrue( set.remove( bean ) );
+		assertTrue( set.isEmpty() );
+		assertFalse( set.remove( null ) );
+	}
+
+	@Test
+	public void testRemovalKeepsOtherElementsReachable() {
+		// a small table with many elements, so that probe sequences are long and wrap around
+		IdentitySet set = new IdentitySet();
+		Set<Object> expected = Collections.newSetFromMap( new IdentityHashMap<>() );
+		List<Object> beans = new ArrayList<>();
+		for ( int i = 0; i < 8; i++ ) {
+			beans.add( new Object() );
+		}
+		Random random = new Random( 42 );
+
+		for ( int i = 0; i < 100_000; i++ ) {
+			Object bean = beans.get( random.nextInt( beans.size() ) );
+			if ( random.nextBoolean() ) {
+				assertEquals( set.add( bean ), expected.add( bean ) );
+			}
+			else {
+				assertEquals( set.remove( bean ), expected.remove( bean ) );
+			}
+			assertEquals( set.size(), expected.size() );
+			for ( Object candidate : beans ) {
+				assertEquals( set.contains( candidate ), expected.contains( candidate ) );
+			}
+		}
+	}
+
+	@Test
+	public void testPathScopedTrackingValidatesSharedBeanOnEachPath() {
+		// order -> (billing, shipping) -> address -> order: the address is shared and cascades back to the order
+		Node order = new Node( "order" );
+		Node address = new Node( "address", order );
+		order.children.add( new Node( "billing", address ) );
+		order.children.add( new Node( "shipping", address ) );
+		List<String> validated = new ArrayList<>();
+		List<String> cycles = new ArrayList<>();
+		IdentitySet path = new IdentitySet();
+
+		CascadeTraversal.traverse( order, 10, new CascadeTraversal.Visitor<Node>() {
+
+			@Override
+			public void visit(Node node, int depth, Consumer<? super Node> cascade) {
+				validated.add( node.name );
+				path.add( node, Default.class );
+				for ( Node child : node.children ) {
+					if ( path.contains( child, Default.class ) ) {
+						cycles.add( node.name + "->" + child.name );
+					}
+					else {
+						cascade.accept( child );
+					}
+				}
+			}
+
+			@Override
+			public void leave(Node node, int depth) {
+				path.remove( node, Default.class );
+			}
+		} );
+
+		assertEquals( validated, Arrays.asList( "order", "billing", "address", "shipping", "address" ) );
+		assertEquals( cycles, Arrays.asList( "address->order", "address->order" ) );
+		assertTrue( path.isEmpty() );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testNullKeyIsRejected() {
+		new IdentitySet().add( null, Default.class );
+	}
+
+	private static class Node {
+
+		private final String name;
+
+		private final List<Node> children;
+
+		private Node(String name, Node... children) {
+			this.name = name;
+			this.children = new ArrayList<>( Arrays.asList( children ) );
+		}
+	}
+}
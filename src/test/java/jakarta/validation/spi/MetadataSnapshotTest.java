@@ -0,0 +1,187 @@
+/*
+ * Jakarta Validation API
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package jakarta.validation.spi;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import jakarta.validation.ValidationException;
+
+public class MetadataSnapshotTest {
+
+	@Test
+	public void testSnapshotCanBeWrittenAndRead() throws Exception {
+		List<Class<?>> types = Arrays.asList( MetadataSnapshotTest.class, String.class );
+		MetadataSnapshot snapshot = MetadataSnapshot.of( "com.acme.AcmeProvider", types, Collections.emptyList(), metadata( "acme metadata" ) );
+
+		Path path = Files.createTempFile( "metadata", ".snapshot" );
+		try {
+			snapshot.write( path );
+			MetadataSnapshot read = MetadataSnapshot.read( path );
+
+			assertEquals( read.getProviderName(), "com.acme.AcmeProvider" );
+			assertEquals( read.getClassNames(), snapshot.getClassNames() );
+			assertEquals( read.getMetadata(), metadata( "acme metadata" ) );
+			assertTrue( read.isUpToDate( MetadataSnapshotTest.class.getClassLoader(), Collections.emptyList() ) );
+		}
+		finally {
+			Files.delete( path );
+		}
+	}
+
+	@Test
+	public void testSnapshotIsOutdatedIfClassFileChanged() throws Exception {
+		MetadataSnapshot snapshot = MetadataSnapshot.of(
+				"com.acme.AcmeProvider",
+				Collections.singletonList( MetadataSnapshotTest.class ),
+				Collections.emptyList(),
+				metadata( "acme metadata" )
+		);
+		byte[] content = toBytes( snapshot );
+
+		// alter the first byte of the class file hash, which follows the class name
+		byte[] className = MetadataSnapshotTest.class.getName().getBytes( StandardCharsets.UTF_8 );
+		int hashStart = indexOf( content, className ) + className.length;
+		content[hashStart]++;
+
+		MetadataSnapshot outdated = MetadataSnapshot.read( ByteBuffer.wrap( content ) );
+		assertFalse( outdated.isUpToDate( MetadataSnapshotTest.class.getClassLoader(), Collections.emptyList() ) );
+	}
+
+	@Test
+	public void testSnapshotIsOutdatedIfClassFileIsMissing() {
+		MetadataSnapshot snapshot = MetadataSnapshot.of(
+				"com.acme.AcmeProvider",
+				Collections.singletonList( MetadataSnapshotTest.class ),
+				Collections.emptyList(),
+				metadata( "acme metadata" )
+		);
+		// a class loader which cannot see any class file
+		assertFalse( snapshot.isUpToDate( new ClassLoader( null ) { }, Collections.emptyList() ) );
+	}
+
+	@Test
+	public void testSupertypesAreHashed() {
+		MetadataSnapshot snapshot = MetadataSnapshot.of(
+				"com.acme.AcmeProvider",
+				Collections.singletonList( Order.class ),
+				Collections.emptyList(),
+				metadata( "acme metadata" )
+		);
+
+		// the types of the Java runtime are not hashed
+		assertEquals( snapshot.getClassNames(), new LinkedHashSet<>( Arrays.asList(
+				Order.class.getName(), Entity.class.getName(), Identifiable.class.getName() ) ) );
+	}
+
+	@Test
+	public void testSnapshotIsOutdatedIfMappingsChanged() {
+		InputStream mapping = mapping( "com.acme.Order" );
+		MetadataSnapshot snapshot = MetadataSnapshot.of(
+				"com.acme.AcmeProvider",
+				Collections.singletonList( MetadataSnapshotTest.class ),
+				Collections.singletonList( mapping ),
+				metadata( "acme metadata" )
+		);
+		ClassLoader classLoader = MetadataSnapshotTest.class.getClassLoader();
+
+		// the mapping stream has been reset
+		assertTrue( snapshot.isUpToDate( classLoader, Collections.singletonList( mapping ) ) );
+		assertTrue( snapshot.isUpToDate( classLoader, Collections.singletonList( mapping( "com.acme.Order" ) ) ) );
+		assertFalse( snapshot.isUpToDate( classLoader, Collections.singletonList( mapping( "com.acme.Customer" ) ) ) );
+		assertFalse( snapshot.isUpToDate( classLoader, Collections.emptyList() ) );
+	}
+
+	@Test
+	public void testMappingsOrderIsNotSignificant() {
+		MetadataSnapshot snapshot = MetadataSnapshot.of(
+				"com.acme.AcmeProvider",
+				Collections.emptyList(),
+				Arrays.asList( mapping( "com.acme.Order" ), mapping( "com.acme.Customer" ) ),
+				metadata( "acme metadata" )
+		);
+
+		assertTrue( snapshot.isUpToDate( MetadataSnapshotTest.class.getClassLoader(),
+				Arrays.asList( mapping( "com.acme.Customer" ), mapping( "com.acme.Order" ) ) ) );
+	}
+
+	@Test(expectedExceptions = ValidationException.class)
+	public void testUnsupportedFormatVersionIsRejected() throws Exception {
+		byte[] content = toBytes( MetadataSnapshot.of( "com.acme.AcmeProvider", Collections.emptyList(), Collections.emptyList(), metadata( "" ) ) );
+		// the format version follows the magic number
+		content[7]++;
+		MetadataSnapshot.read( ByteBuffer.wrap( content ) );
+	}
+
+	@Test(expectedExceptions = ValidationException.class)
+	public void testTruncatedSnapshotIsRejected() throws Exception {
+		byte[] content = toBytes( MetadataSnapshot.of( "com.acme.AcmeProvider", Collections.emptyList(), Collections.emptyList(), metadata( "acme metadata" ) ) );
+		MetadataSnapshot.read( ByteBuffer.wrap( content, 0, content.length - 1 ) );
+	}
+
+	@Test(expectedExceptions = ValidationException.class)
+	public void testOtherContentIsRejected() {
+		MetadataSnapshot.read( metadata( "<constraint-mappings/>" ) );
+	}
+
+	private static InputStream mapping(String beanClass) {
+		return new ByteArrayInputStream(
+				( "<constraint-mappings><bean class=\"" + beanClass + "\"/></constraint-mappings>" ).getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	private static ByteBuffer metadata(String metadata) {
+		return ByteBuffer.wrap( metadata.getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	private static byte[] toBytes(MetadataSnapshot snapshot) throws Exception {
+		Path path = Files.createTempFile( "metadata", ".snapshot" );
+		try {
+			snapshot.write( path );
+			return Files.readAllBytes( path );
+		}
+		finally {
+			Files.delete( path );
+		}
+	}
+
+	private static int indexOf(byte[] content, byte[] part) {
+		for ( int i = 0; i <= content.length - part.length; i++ ) {
+			if ( Arrays.equals( Arrays.copyOfRange( content, i, i + part.length ), part ) ) {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException( "Part not found" );
+	}
+
+	private interface Identifiable {
+	}
+
+	private static class Entity implements Identifiable, Serializable {
+
+		private static final long serialVersionUID = 1L;
+	}
+
+	private static class Order extends Entity {
+
+		private static final long serialVersionUID = 1L;
+	}
+}